@@ -0,0 +1,19 @@
+package acavailhez.optget.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+// Runs the suites matching the first argument (all of them by default) with allocation profiling
+// The shaded jar does the same with: java -jar benchmarks/target/benchmarks.jar -prof gc [regexp]
+public class BenchmarkRunner {
+
+    public static void main(final String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(args.length > 0 ? args[0] : BenchmarkRunner.class.getPackageName() + ".*")
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,56 @@
+package acavailhez.optget.benchmarks;
+
+import acavailhez.optget.OptGet;
+import acavailhez.optget.casts.CastMode;
+import acavailhez.optget.wraps.MapOptGet;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Every number cast in every CastMode, from a String and from another Number
+// STRICT only accepts values that already have the target class, so both values are of that class in STRICT
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CastBenchmarks {
+
+    @Param({"Integer", "Long", "Short", "Byte", "Float", "Double"})
+    public String target;
+
+    @Param({"STRICT", "PARSE", "CLEAN", "UNSAFE_BEST_EFFORT"})
+    public CastMode mode;
+
+    private Class<?> targetClass;
+    private OptGet map;
+
+    @Setup
+    public void setup() throws ClassNotFoundException {
+        targetClass = Class.forName("java.lang." + target);
+        Map<String, Object> values = new HashMap<>();
+        if (mode == CastMode.STRICT) {
+            Object same = new MapOptGet(Map.of("value", "42")).get("value", targetClass);
+            values.put("string", same);
+            values.put("number", same);
+        } else {
+            values.put("string", mode == CastMode.PARSE ? "42" : " 42 ");
+            values.put("number", target.equals("Double") ? (Object) 42L : (Object) 42.0);
+        }
+        map = new MapOptGet(values);
+        map.setCastMode(mode);
+    }
+
+    @Benchmark
+    public Object fromString() {
+        return map.get("string", targetClass);
+    }
+
+    @Benchmark
+    public Object fromNumber() {
+        return map.get("number", targetClass);
+    }
+}
@@ -0,0 +1,59 @@
+package acavailhez.optget.benchmarks;
+
+import acavailhez.optget.OptGet;
+import acavailhez.optget.views.CollectionMode;
+import acavailhez.optget.wraps.MapOptGet;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// optList and optMap of Strings cast to Integers, read whole, at several sizes and in every CollectionMode
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CollectionBenchmarks {
+
+    @Param({"10", "1000", "100000"})
+    public int size;
+
+    @Param({"EAGER", "LAZY", "LAZY_MEMOIZED", "PARALLEL"})
+    public CollectionMode mode;
+
+    private OptGet map;
+
+    @Setup
+    public void setup() {
+        List<Object> list = new ArrayList<>(size);
+        Map<Object, Object> entries = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            list.add(String.valueOf(i));
+            entries.put(String.valueOf(i), String.valueOf(i));
+        }
+        map = new MapOptGet(Map.of("list", list, "map", entries));
+    }
+
+    @Benchmark
+    public long list() {
+        long sum = 0;
+        for (Integer value : map.getList("list", Integer.class, mode)) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long map() {
+        long sum = 0;
+        for (Map.Entry<Integer, Integer> entry : map.getMap("map", Integer.class, Integer.class, mode).entrySet()) {
+            sum += entry.getKey() + entry.getValue();
+        }
+        return sum;
+    }
+}
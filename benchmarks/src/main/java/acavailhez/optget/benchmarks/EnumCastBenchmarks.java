@@ -0,0 +1,34 @@
+package acavailhez.optget.benchmarks;
+
+import acavailhez.optget.casts.EnumCast;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Enum lookups by exact and by case-insensitive name
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EnumCastBenchmarks {
+
+    public enum Color {
+        DEFAULT, PRIMARY, SECONDARY, SUCCESS, INFO, WARNING, DANGER, LIGHT, DARK, LINK
+    }
+
+    // fields so that the JIT cannot fold the names
+    private String exact = "WARNING";
+    private String lowerCase = "warning";
+
+    @Benchmark
+    public Color exactName() {
+        return EnumCast.castToEnum(exact, Color.class);
+    }
+
+    @Benchmark
+    public Color caseInsensitiveName() {
+        return EnumCast.castToEnum(lowerCase, Color.class);
+    }
+}
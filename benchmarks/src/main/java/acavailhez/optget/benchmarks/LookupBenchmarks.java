@@ -0,0 +1,83 @@
+package acavailhez.optget.benchmarks;
+
+import acavailhez.optget.OptGet;
+import acavailhez.optget.paths.OptPath;
+import acavailhez.optget.wraps.ListOptGet;
+import acavailhez.optget.wraps.MapOptGet;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// opt and get on flat and nested keys of MapOptGet and ListOptGet
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LookupBenchmarks {
+
+    private static final OptPath NESTED = OptPath.compile("a.b.2.c");
+
+    private OptGet map;
+    private OptGet list;
+
+    @Setup
+    public void setup() {
+        Map<String, Object> flat = new HashMap<>();
+        for (int i = 0; i < 20; i++) {
+            flat.put("key" + i, "value" + i);
+        }
+        List<Object> elements = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            elements.add(Map.of("c", i));
+        }
+        flat.put("a", Map.of("b", elements));
+        map = new MapOptGet(flat);
+        list = new ListOptGet(elements);
+    }
+
+    @Benchmark
+    public Object mapOptFlat() {
+        return map.opt("key10");
+    }
+
+    @Benchmark
+    public Object mapOptMissing() {
+        return map.opt("missing");
+    }
+
+    @Benchmark
+    public String mapGetFlatString() {
+        return map.getString("key10");
+    }
+
+    @Benchmark
+    public Object mapOptNested() {
+        return map.opt("a.b.2.c");
+    }
+
+    @Benchmark
+    public Object mapOptNestedPath() {
+        return map.opt(NESTED);
+    }
+
+    @Benchmark
+    public int mapGetNestedInt() {
+        return map.getInt("a.b.2.c");
+    }
+
+    @Benchmark
+    public Object listOptIndex() {
+        return list.opt(3);
+    }
+
+    @Benchmark
+    public int listGetNestedInt() {
+        return list.getInt("3.c");
+    }
+}
@@ -0,0 +1,61 @@
+package acavailhez.optget.benchmarks;
+
+import acavailhez.optget.OptGet;
+import acavailhez.optget.wraps.ObjectWrapperOptGet;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Reads through getters and public fields of a wrapped object
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ObjectWrapperBenchmarks {
+
+    public static class Wrapped {
+        public int field = 10;
+        public Wrapped nested;
+
+        public String getName() {
+            return "name";
+        }
+    }
+
+    private Wrapped wrapped;
+    private OptGet wrapper;
+
+    @Setup
+    public void setup() {
+        wrapped = new Wrapped();
+        wrapped.nested = new Wrapped();
+        wrapper = new ObjectWrapperOptGet(wrapped);
+    }
+
+    @Benchmark
+    public Object wrap() {
+        return new ObjectWrapperOptGet(wrapped);
+    }
+
+    @Benchmark
+    public Object getter() {
+        return wrapper.opt("name");
+    }
+
+    @Benchmark
+    public int field() {
+        return wrapper.getInt("field");
+    }
+
+    @Benchmark
+    public Object nested() {
+        return wrapper.opt("nested.name");
+    }
+
+    @Benchmark
+    public Object missing() {
+        return wrapper.opt("missing");
+    }
+}
@@ -0,0 +1,58 @@
+package acavailhez.optget.benchmarks;
+
+import acavailhez.optget.OptGet;
+import acavailhez.optget.wraps.MapOptGet;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// A list of objects read element by element: getListOfOptGet against stream, with and without flyweight wrappers
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StreamBenchmarks {
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private OptGet map;
+
+    @Setup
+    public void setup() {
+        List<Object> features = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            features.add(Map.of("id", i));
+        }
+        map = new MapOptGet(Map.of("features", features));
+    }
+
+    @Benchmark
+    public long listOfOptGet() {
+        long sum = 0;
+        for (OptGet feature : map.getListOfOptGet("features")) {
+            sum += feature.getInt("id");
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long stream() {
+        return map.stream("features").mapToLong(feature -> feature.getInt("id")).sum();
+    }
+
+    @Benchmark
+    public long flyweightStream() {
+        return map.stream("features", true).mapToLong(feature -> feature.getInt("id")).sum();
+    }
+
+    @Benchmark
+    public long parallelFlyweightStream() {
+        return map.stream("features", true).parallel().mapToLong(feature -> feature.getInt("id")).sum();
+    }
+}
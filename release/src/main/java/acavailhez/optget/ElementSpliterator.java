@@ -0,0 +1,113 @@
+package acavailhez.optget;
+
+import acavailhez.optget.wraps.MapOptGet;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+// The elements of a random access list as OptGet, wrapped when they are consumed
+// Splits halve the range of indexes, so parallel streams get even shares of the list
+// In flyweight mode, Map elements are read through one wrapper per split, pointed at each element in turn
+final class ElementSpliterator implements Spliterator<OptGet> {
+
+    private final OptGet parent;
+    private final Object key;
+    private final List<?> list;
+    private int from;
+    private final int to;
+    private final boolean flyweight;
+    // created on the first Map element, a split is consumed by a single thread at a time
+    private Flyweight wrapper;
+
+    ElementSpliterator(final @NotNull OptGet parent, final @NotNull Object key, final @NotNull List<?> list, final boolean flyweight) {
+        this(parent, key, list, 0, list.size(), flyweight);
+    }
+
+    private ElementSpliterator(final @NotNull OptGet parent, final @NotNull Object key, final @NotNull List<?> list,
+                               final int from, final int to, final boolean flyweight) {
+        this.parent = parent;
+        this.key = key;
+        this.list = list;
+        this.from = from;
+        this.to = to;
+        this.flyweight = flyweight;
+    }
+
+    @Override
+    public boolean tryAdvance(final @NotNull Consumer<? super OptGet> action) {
+        if (from >= to) {
+            return false;
+        }
+        int index = from++;
+        action.accept(element(index));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(final @NotNull Consumer<? super OptGet> action) {
+        int end = to;
+        for (int index = from; index < end; index++) {
+            from = index + 1;
+            action.accept(element(index));
+        }
+    }
+
+    @Override
+    public @Nullable Spliterator<OptGet> trySplit() {
+        int middle = (from + to) >>> 1;
+        if (middle <= from) {
+            return null;
+        }
+        ElementSpliterator prefix = new ElementSpliterator(parent, key, list, from, middle, flyweight);
+        from = middle;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return to - from;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED;
+    }
+
+    private @Nullable OptGet element(final int index) {
+        Object element = list.get(index);
+        if (flyweight && element instanceof Map && !(element instanceof OptGet)) {
+            if (wrapper == null) {
+                wrapper = new Flyweight();
+                parent.shareConfig(wrapper);
+            }
+            wrapper.point((Map<?, ?>) element);
+            return wrapper;
+        }
+        return parent.element(key, index, element);
+    }
+
+    // A MapOptGet whose map can be replaced
+    private static final class Flyweight extends MapOptGet {
+
+        private Map<Object, Object> map;
+
+        private Flyweight() {
+            super(Map.of());
+        }
+
+        @Override
+        protected @NotNull Map<Object, Object> map() {
+            return map;
+        }
+
+        // safe: the map is only read and written with Object keys and values, as MapOptGet does
+        @SuppressWarnings("unchecked")
+        private void point(final @NotNull Map<?, ?> map) {
+            this.map = (Map<Object, Object>) map;
+        }
+    }
+}
@@ -1,34 +1,47 @@
 package acavailhez.optget;
 
+import acavailhez.optget.binds.Binder;
 import acavailhez.optget.casts.*;
+import acavailhez.optget.events.CastFailureEvent;
+import acavailhez.optget.events.CoercionEvent;
+import acavailhez.optget.events.LookupEvent;
+import acavailhez.optget.metrics.OptGetMetrics;
+import acavailhez.optget.paths.OptPath;
+import acavailhez.optget.paths.OptPaths;
+import acavailhez.optget.views.CastingList;
+import acavailhez.optget.views.CastingMap;
+import acavailhez.optget.views.CollectionMode;
+import acavailhez.optget.views.LazyList;
+import acavailhez.optget.views.ParallelConversion;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.UnaryOperator;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 // OptGet wraps an object that can answer to a "get(Object key)"
 // and exposes many shortcut functions to cast objects in desirable formats
 // For example optGet.get("features.1.geometry") will search in a Map, a List, and another Map
 public abstract class OptGet implements Map<Object, Object> {
 
-    // code used to cast Object to the desired class
-    @SuppressWarnings("rawtypes")
-    private final Map<Class, AbstractCast> castors = new HashMap<>();
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 16384;
+
+    // cast registry, cast mode, parallel threshold and metrics, replaced as a whole by the setters
+    // volatile so that every thread reads the latest configuration, frozen or not, however the OptGet was shared
+    private volatile OptGetConfig config = OptGetConfig.DEFAULT;
 
-    // How strict we are when casting
-    private CastMode castMode = CastMode.CLEAN;
+    // setters compare and set the configuration, so that concurrent setters and freezeConfig do not undo each other
+    private static final AtomicReferenceFieldUpdater<OptGet, OptGetConfig> CONFIG =
+            AtomicReferenceFieldUpdater.newUpdater(OptGet.class, OptGetConfig.class, "config");
 
     // init
     protected OptGet() {
-        addCast(new StringCast());
-        addCast(new LongCast());
-        addCast(new IntegerCast());
-        addCast(new ShortCast());
-        addCast(new ByteCast());
-        addCast(new FloatCast());
-        addCast(new DoubleCast());
-        addCast(new OptGetCast());
     }
 
     public static OptGet wrap(Object object) {
@@ -83,20 +96,62 @@ public abstract class OptGet implements Map<Object, Object> {
 
     @Override
     public boolean containsValue(final @NotNull Object value) {
-        throw new RuntimeException("Not implemented");
+        return values().contains(value);
     }
 
+    // Views over keySet(), wrappers can override them with the views of what they wrap
+
     @Override
     public @NotNull Collection<Object> values() {
-        throw new RuntimeException("Not implemented");
+        return new AbstractCollection<>() {
+            @Override
+            public @NotNull Iterator<Object> iterator() {
+                Iterator<Object> keys = keySet().iterator();
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return keys.hasNext();
+                    }
+
+                    @Override
+                    public Object next() {
+                        return optToOverride(keys.next());
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return OptGet.this.size();
+            }
+        };
     }
 
     @Override
     public @NotNull Set<Entry<Object, Object>> entrySet() {
-        return keySet()
-                .stream()
-                .map(it -> new AbstractMap.SimpleEntry<Object, Object>(it, opt(it)))
-                .collect(Collectors.toSet());
+        return new AbstractSet<>() {
+            @Override
+            public @NotNull Iterator<Entry<Object, Object>> iterator() {
+                Iterator<Object> keys = keySet().iterator();
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return keys.hasNext();
+                    }
+
+                    @Override
+                    public Entry<Object, Object> next() {
+                        Object key = keys.next();
+                        return new AbstractMap.SimpleImmutableEntry<>(key, optToOverride(key));
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return OptGet.this.size();
+            }
+        };
     }
 
     // SETTERS ---
@@ -150,17 +205,161 @@ public abstract class OptGet implements Map<Object, Object> {
     public <T> @NotNull T get(final @NotNull Object key, final @NotNull Class<T> classToCast) {
         T value = opt(key, classToCast);
         if (value == null) {
-            onNullValue(key.toString(), classToCast);
+            nullValue(key.toString(), classToCast);
+        }
+        return Objects.requireNonNull(value);
+    }
+
+    // opt with a cast in a given mode, whatever the mode of this object
+    public <T> @Nullable T opt(final @NotNull Object key, final @NotNull Class<T> classToCast, final @NotNull CastMode castMode) {
+        return privateOpt(key, classToCast, null, castMode);
+    }
+
+    // get with a cast in a given mode, whatever the mode of this object
+    public <T> @NotNull T get(final @NotNull Object key, final @NotNull Class<T> classToCast, final @NotNull CastMode castMode) {
+        T value = opt(key, classToCast, castMode);
+        if (value == null) {
+            nullValue(key.toString(), classToCast);
         }
         return Objects.requireNonNull(value);
     }
 
+    // Map this object into a record, through its canonical constructor, or into a POJO, through its setters
+    // Components are read from the path of the same name, or the one given by @BindPath
+    public <R> @NotNull R bind(final @NotNull Class<R> type) {
+        return Binder.bind(this, type);
+    }
+
+    // Read several paths in a single walk, paths sharing a prefix such as "properties." walk it only once
+    // Values come in the order of the paths, each cast to the class at the same position when classes are given
+    // Paths are read as OptPath keys: a dotted path is not also looked up as a key of its own
+    public @Nullable Object @NotNull [] optAll(final @NotNull OptPaths paths, final @NotNull Class<?>... classesToCast) {
+        if (classesToCast.length != 0 && classesToCast.length != paths.size()) {
+            throw new IllegalArgumentException(paths.size() + " paths but " + classesToCast.length + " classes to cast to");
+        }
+        Object[] values = new Object[paths.size()];
+        for (int child = 1; child < paths.nodes(); child = paths.end(child)) {
+            Object node = optToOverride(paths.segment(child));
+            if (node != null) {
+                walkAll(node, paths, child, values);
+            }
+        }
+        OptGetMetrics metrics = config.metrics;
+        for (int i = 0; i < values.length; i++) {
+            if (metrics != null) {
+                // counted as lookups, the walk is shared so no latency is sampled
+                metrics.endLookup(0, values[i] == null);
+            }
+            if (values[i] != null && classesToCast.length != 0) {
+                values[i] = cast(paths.path(i), values[i], classesToCast[i]);
+            }
+        }
+        return values;
+    }
+
+    // Cast a value read from this object, through optAll for example, with the casts and cast mode of this object
+    // key is where the value was read, to report failures
+    // A value wrapped into a new OptGet shares the configuration of this object, so what is read through it is cast the same way
+    public <T> @NotNull T castValue(final @Nullable Object key, final @NotNull Object value, final @NotNull Class<T> classToCast) {
+        T cast = cast(key, value, classToCast);
+        if (cast instanceof OptGet && cast != value) {
+            shareConfig((OptGet) cast);
+        }
+        return cast;
+    }
+
+    public @Nullable Object @NotNull [] optAll(final @NotNull String... paths) {
+        return optAll(OptPaths.compile(paths));
+    }
+
+    // optAll, onNullValue is called for the first path that is missing
+    public @NotNull Object @NotNull [] getAll(final @NotNull OptPaths paths, final @NotNull Class<?>... classesToCast) {
+        Object[] values = optAll(paths, classesToCast);
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == null) {
+                Class<?> classToCast = classesToCast.length == 0 ? Object.class : classesToCast[i];
+                nullValue(paths.path(i).toString(), classToCast);
+            }
+        }
+        return values;
+    }
+
+    public @NotNull Object @NotNull [] getAll(final @NotNull String... paths) {
+        return getAll(OptPaths.compile(paths));
+    }
+
+    // All the values matching a path where segments can be wildcards, such as "features.*.geometry.type"
+    // "*" matches every value of an object or list, "**" any number of levels, "**.id" is every "id" of the tree
+    // The stream is lazy, and splits over large lists when parallel
+    public @NotNull Stream<Object> query(final @NotNull Object path) {
+        return StreamSupport.stream(new QuerySpliterator(this, toPath(path)), false);
+    }
+
+    // query with each match cast
+    public <T> @NotNull Stream<T> query(final @NotNull Object path, final @NotNull Class<T> classToCast) {
+        OptPath optPath = toPath(path);
+        return StreamSupport.stream(new QuerySpliterator(this, optPath), false)
+                .map(value -> cast(optPath, value, classToCast));
+    }
+
+    // The elements of the list at key as OptGet, wrapped as they are consumed with the configuration of this object
+    // The stream is sized, so parallel streams split the list evenly, and empty when the key is missing
+    public @NotNull Stream<OptGet> stream(final @NotNull Object key) {
+        return stream(key, false);
+    }
+
+    // With flyweight, the Map elements of each split of the stream are all read through the same OptGet,
+    // pointed at the next element as the stream moves on: an element must not be kept once the next one is read
+    public @NotNull Stream<OptGet> stream(final @NotNull Object key, final boolean flyweight) {
+        List<?> list = optRandomAccessList(key);
+        if (list == null) {
+            return Stream.empty();
+        }
+        return StreamSupport.stream(new ElementSpliterator(this, key, list, flyweight), false);
+    }
+
     public void setCastMode(final @NotNull CastMode castMode) {
-        this.castMode = castMode;
+        updateConfig(current -> current.withCastMode(castMode));
+    }
+
+    public void setParallelThreshold(final int parallelThreshold) {
+        updateConfig(current -> current.withParallelThreshold(parallelThreshold));
+    }
+
+    // Record lookups and casts into metrics, null to stop recording
+    // The same metrics can be set on many objects to aggregate them
+    public void setMetrics(final @Nullable OptGetMetrics metrics) {
+        updateConfig(current -> current.withMetrics(metrics));
+    }
+
+    public @Nullable OptGetMetrics getMetrics() {
+        return config.metrics;
     }
 
     public <T> void addCast(final @NotNull AbstractCast<T> cast) {
-        castors.put(cast.getCastClass(), cast);
+        updateConfig(current -> current.withCastors(current.castors.with(cast)));
+    }
+
+    // Make the configuration read-only: the setters above throw an IllegalStateException from then on
+    // Freeze before sharing the object, a frozen object can then be read from any number of threads without locking,
+    // as long as what it wraps is not modified
+    public void freezeConfig() {
+        updateConfig(OptGetConfig::freeze);
+    }
+
+    // Whether a cast to exactly this class was registered, by default or through addCast
+    public boolean hasCast(final @NotNull Class<?> castClass) {
+        return config.castors.get(castClass) != null;
+    }
+
+    public boolean isConfigFrozen() {
+        return config.frozen;
+    }
+
+    // Applies a change to the latest configuration, again if another thread replaced it in between
+    // The with methods throw on a frozen configuration, so a freeze is never undone by a setter that raced it
+    private void updateConfig(final @NotNull UnaryOperator<OptGetConfig> update) {
+        CONFIG.updateAndGet(this, update);
     }
 
     // #####################
@@ -168,49 +367,312 @@ public abstract class OptGet implements Map<Object, Object> {
     // #####################
 
     private <T> @Nullable T privateOpt(final @NotNull Object key, final @NotNull Class<T> classToCast, @Nullable T defaultValue) {
+        return privateOpt(key, classToCast, defaultValue, config.castMode);
+    }
+
+    private <T> @Nullable T privateOpt(final @NotNull Object key, final @NotNull Class<T> classToCast, @Nullable T defaultValue, final @NotNull CastMode castMode) {
         Object nonCast = recursiveOpt(key);
         if (nonCast == null) {
             return defaultValue;
         }
-        return cast(nonCast, classToCast);
+        return cast(key, nonCast, classToCast, castMode);
     }
 
     // Will transform getString("key.sub") to getGetOpt("key").getString("sub")
     // when used in groovy, map.key.sub will then work
     private @Nullable Object recursiveOpt(final @NotNull Object key) {
+        OptGetMetrics metrics = config.metrics;
+        LookupEvent event = LookupEvent.start();
+        if (metrics == null && event == null) {
+            return resolve(key);
+        }
+        long start = metrics == null ? 0 : metrics.startLookup();
+        Object value = resolve(key);
+        if (metrics != null) {
+            metrics.endLookup(start, value == null);
+        }
+        if (event != null) {
+            event.finish(key, getClass(), value != null);
+        }
+        return value;
+    }
+
+    private static @NotNull OptPath toPath(final @NotNull Object path) {
+        return path instanceof OptPath ? (OptPath) path : OptPath.of(path.toString());
+    }
+
+    private @Nullable Object resolve(final @NotNull Object key) {
+        // Already parsed paths skip the direct lookup
+        if (key instanceof OptPath) {
+            return pathOpt((OptPath) key);
+        }
         // First attempt to get the value directly
         Object value = optToOverride(key);
         if (value != null) {
             return value;
         }
         // Search recursively in the underlying opt object
-        String stringKey = key.toString();
-        String[] subkeys = stringKey.split("\\.");
-        OptGet optGet = this;
-        for (int i = 0; i < subkeys.length - 1; i++) {
-            optGet = optGet.opt(subkeys[i], OptGet.class);
-            if (optGet == null) {
+        OptPath path = OptPath.of(key.toString());
+        if (path.size() == 1 && key instanceof String) {
+            // no dot, the direct lookup already answered
+            return null;
+        }
+        return pathOpt(path);
+    }
+
+    // Walks the raw Maps and Lists under this object, no OptGet is created for the intermediate nodes
+    // The caller decides whether the final value has to be wrapped
+    private @Nullable Object pathOpt(final @NotNull OptPath path) {
+        if (path.size() == 0) {
+            return null;
+        }
+        Object node = optToOverride(path.segment(0));
+        for (int i = 1; i < path.size() && node != null; i++) {
+            node = step(node, path.segment(i), path.index(i));
+        }
+        return node;
+    }
+
+    // Lookup a segment of a path in a raw node, index is the segment pre-parsed as a list index
+    @SuppressWarnings("rawtypes")
+    @Nullable Object step(final @NotNull Object node, final @NotNull String segment, final int index) {
+        // OptGet first, as it is also a Map whose get() throws on missing keys
+        if (node instanceof OptGet) {
+            return ((OptGet) node).optToOverride(segment);
+        }
+        if (node instanceof Map) {
+            return ((Map) node).get(segment);
+        }
+        if (node instanceof List) {
+            List list = (List) node;
+            // not size(), lazy lists would read all their elements to check a single index
+            if (index == OptPath.NOT_AN_INDEX || !LazyList.has(list, index)) {
                 return null;
             }
+            return list.get(index);
+        }
+        // Anything else goes through the OptGet cast, which fails or wraps depending on the cast mode
+        return cast(null, node, OptGet.class).optToOverride(segment);
+    }
+
+    // Raw values of all the paths under a node of the tree, each shared prefix is walked once
+    private void walkAll(final @NotNull Object node, final @NotNull OptPaths paths, final int n, final @Nullable Object @NotNull [] values) {
+        for (int leaf : paths.leaves(n)) {
+            values[leaf] = node;
+        }
+        for (int child = n + 1; child < paths.end(n); child = paths.end(child)) {
+            Object next = step(node, paths.segment(child), paths.index(child));
+            if (next != null) {
+                walkAll(next, paths, child, values);
+            }
+        }
+    }
+
+    // Counts the missing value before handing it to onNullValue
+    private <T> void nullValue(final @NotNull Object key, final @NotNull Class<T> classToCast) {
+        OptGetMetrics metrics = config.metrics;
+        if (metrics != null) {
+            metrics.nullValue();
+        }
+        onNullValue(key, classToCast);
+    }
+
+    // Raw value for a get, onNullValue is called when it is missing
+    private @NotNull Object getNonCast(final @NotNull Object key, final @NotNull Class<?> classToCast) {
+        Object nonCast = recursiveOpt(key);
+        if (nonCast == null) {
+            nullValue(key.toString(), classToCast);
+        }
+        return Objects.requireNonNull(nonCast);
+    }
+
+    // The list at key, copied into an ArrayList if it cannot be indexed in O(1)
+    private @Nullable List<?> optRandomAccessList(final @NotNull Object key) {
+        List<?> list = opt(key, List.class);
+        if (list == null || list instanceof RandomAccess) {
+            return list;
+        }
+        return new ArrayList<>(list);
+    }
+
+    // An element of the list at key as an OptGet, new wrappers share the configuration of this object
+    @Nullable OptGet element(final @NotNull Object key, final int index, final @Nullable Object element) {
+        if (element == null) {
+            nullValue(key + "." + index, OptGet.class);
+            return null;
+        }
+        if (element instanceof OptGet) {
+            return (OptGet) element;
+        }
+        OptGet wrapper = cast(key, element, OptGet.class);
+        shareConfig(wrapper);
+        return wrapper;
+    }
+
+    void shareConfig(final @NotNull OptGet wrapper) {
+        wrapper.config = config;
+    }
+
+    // A null element of a list read into a primitive, 0 if onNullValue does not throw
+    private int nullElement(final @NotNull Object key, final int index, final @NotNull Class<?> classToCast) {
+        nullValue(key + "." + index, classToCast);
+        return 0;
+    }
+
+    // Primitive casts, they do not box when the registry has a primitive cast for the value
+    // and fall back on the boxed cast otherwise
+
+    private int toInt(final @Nullable Object key, final @NotNull Object nonCast) {
+        OptGetConfig config = this.config;
+        ToIntCast castor = config.castors.intCast();
+        if (castor == null || !castor.accepts(nonCast.getClass())) {
+            return cast(key, nonCast, Integer.class);
+        }
+        OptGetMetrics metrics = config.metrics;
+        if (metrics != null) {
+            metrics.cast(nonCast.getClass(), Integer.class);
+        }
+        CoercionEvent event = nonCast instanceof String ? CoercionEvent.start() : null;
+        try {
+            int value = castor.castToInt(nonCast, config.castMode);
+            if (event != null) {
+                event.finish(key, getClass(), String.class, int.class, CoercionEvent.PARSE);
+            }
+            return value;
+        } catch (CastException e) {
+            castFailed(key, nonCast, Integer.class, config.castMode, e);
+            throw e;
+        }
+    }
+
+    private long toLong(final @Nullable Object key, final @NotNull Object nonCast) {
+        OptGetConfig config = this.config;
+        ToLongCast castor = config.castors.longCast();
+        if (castor == null || !castor.accepts(nonCast.getClass())) {
+            return cast(key, nonCast, Long.class);
+        }
+        OptGetMetrics metrics = config.metrics;
+        if (metrics != null) {
+            metrics.cast(nonCast.getClass(), Long.class);
+        }
+        CoercionEvent event = nonCast instanceof String ? CoercionEvent.start() : null;
+        try {
+            long value = castor.castToLong(nonCast, config.castMode);
+            if (event != null) {
+                event.finish(key, getClass(), String.class, long.class, CoercionEvent.PARSE);
+            }
+            return value;
+        } catch (CastException e) {
+            castFailed(key, nonCast, Long.class, config.castMode, e);
+            throw e;
+        }
+    }
+
+    private float toFloat(final @Nullable Object key, final @NotNull Object nonCast) {
+        OptGetConfig config = this.config;
+        ToFloatCast castor = config.castors.floatCast();
+        if (castor == null || !castor.accepts(nonCast.getClass())) {
+            return cast(key, nonCast, Float.class);
+        }
+        OptGetMetrics metrics = config.metrics;
+        if (metrics != null) {
+            metrics.cast(nonCast.getClass(), Float.class);
+        }
+        CoercionEvent event = nonCast instanceof String ? CoercionEvent.start() : null;
+        try {
+            float value = castor.castToFloat(nonCast, config.castMode);
+            if (event != null) {
+                event.finish(key, getClass(), String.class, float.class, CoercionEvent.PARSE);
+            }
+            return value;
+        } catch (CastException e) {
+            castFailed(key, nonCast, Float.class, config.castMode, e);
+            throw e;
+        }
+    }
+
+    private double toDouble(final @Nullable Object key, final @NotNull Object nonCast) {
+        OptGetConfig config = this.config;
+        ToDoubleCast castor = config.castors.doubleCast();
+        if (castor == null || !castor.accepts(nonCast.getClass())) {
+            return cast(key, nonCast, Double.class);
+        }
+        OptGetMetrics metrics = config.metrics;
+        if (metrics != null) {
+            metrics.cast(nonCast.getClass(), Double.class);
+        }
+        CoercionEvent event = nonCast instanceof String ? CoercionEvent.start() : null;
+        try {
+            double value = castor.castToDouble(nonCast, config.castMode);
+            if (event != null) {
+                event.finish(key, getClass(), String.class, double.class, CoercionEvent.PARSE);
+            }
+            return value;
+        } catch (CastException e) {
+            castFailed(key, nonCast, Double.class, config.castMode, e);
+            throw e;
         }
-        return optGet.optToOverride(subkeys[subkeys.length - 1]);
+    }
+
+    private boolean toBoolean(final @Nullable Object key, final @NotNull Object nonCast) {
+        OptGetConfig config = this.config;
+        ToBooleanCast castor = config.castors.booleanCast();
+        if (castor == null || !castor.accepts(nonCast.getClass())) {
+            return cast(key, nonCast, Boolean.class);
+        }
+        OptGetMetrics metrics = config.metrics;
+        if (metrics != null) {
+            metrics.cast(nonCast.getClass(), Boolean.class);
+        }
+        CoercionEvent event = nonCast instanceof String ? CoercionEvent.start() : null;
+        try {
+            boolean value = castor.castToBoolean(nonCast, config.castMode);
+            if (event != null) {
+                event.finish(key, getClass(), String.class, boolean.class, CoercionEvent.PARSE);
+            }
+            return value;
+        } catch (CastException e) {
+            castFailed(key, nonCast, Boolean.class, config.castMode, e);
+            throw e;
+        }
+    }
+
+    private <T> @NotNull T cast(final @Nullable Object key, final @NotNull Object unknown, final @NotNull Class<T> classToCast) {
+        return cast(key, unknown, classToCast, config.castMode);
     }
 
     @SuppressWarnings("unchecked")
-    private <T> @NotNull T cast(final @NotNull Object unknown, final @NotNull Class<T> classToCast) {
+    private <T> @NotNull T cast(final @Nullable Object key, final @NotNull Object unknown, final @NotNull Class<T> classToCast, final @NotNull CastMode castMode) {
         if (classToCast == Object.class) {
             return (T) unknown;
         }
-        if (classToCast.isAssignableFrom(unknown.getClass())) {
-            return (T) unknown;
+        OptGetConfig config = this.config;
+        Converter<T> converter = config.castors.converter(unknown.getClass(), classToCast);
+        OptGetMetrics metrics = config.metrics;
+        if (metrics != null) {
+            metrics.cast(unknown.getClass(), classToCast);
         }
-        if (classToCast.isEnum()) {
-            return (T) EnumCast.castToEnum(unknown, classToCast);
+        CoercionEvent event = unknown instanceof String && classToCast != String.class ? CoercionEvent.start() : null;
+        try {
+            T value = converter.convert(unknown, castMode);
+            if (event != null) {
+                event.finish(key, getClass(), String.class, classToCast, CoercionEvent.PARSE);
+            }
+            return value;
+        } catch (CastException e) {
+            castFailed(key, unknown, classToCast, castMode, e);
+            throw e;
         }
-        if (castors.containsKey(classToCast)) {
-            return (T) castors.get(classToCast).cast(unknown, this.castMode);
+    }
+
+    // Counts and reports a failed cast, the caller rethrows the exception
+    private void castFailed(final @Nullable Object key, final @NotNull Object unknown, final @NotNull Class<?> classToCast,
+                            final @NotNull CastMode castMode, final @NotNull CastException e) {
+        OptGetMetrics metrics = config.metrics;
+        if (metrics != null) {
+            metrics.castFailed(unknown.getClass(), classToCast);
         }
-        throw new IllegalArgumentException("No code to cast to class " + classToCast.getName());
+        CastFailureEvent.failed(key, getClass(), unknown.getClass(), classToCast, castMode, e);
     }
 
 
@@ -268,7 +730,12 @@ public abstract class OptGet implements Map<Object, Object> {
     }
 
     public int getInteger(final @NotNull Object key) {
-        return get(key, Integer.class);
+        return toInt(key, getNonCast(key, Integer.class));
+    }
+
+    public int getInteger(final @NotNull Object key, final int defaultValue) {
+        Object nonCast = recursiveOpt(key);
+        return nonCast == null ? defaultValue : toInt(key, nonCast);
     }
 
     public @Nullable Integer optInt(final @NotNull Object key) {
@@ -280,7 +747,12 @@ public abstract class OptGet implements Map<Object, Object> {
     }
 
     public int getInt(final @NotNull Object key) {
-        return get(key, Integer.class);
+        return toInt(key, getNonCast(key, Integer.class));
+    }
+
+    public int getInt(final @NotNull Object key, final int defaultValue) {
+        Object nonCast = recursiveOpt(key);
+        return nonCast == null ? defaultValue : toInt(key, nonCast);
     }
 
     public @Nullable Long optLong(final @NotNull Object key) {
@@ -292,7 +764,12 @@ public abstract class OptGet implements Map<Object, Object> {
     }
 
     public long getLong(final @NotNull Object key) {
-        return get(key, Long.class);
+        return toLong(key, getNonCast(key, Long.class));
+    }
+
+    public long getLong(final @NotNull Object key, final long defaultValue) {
+        Object nonCast = recursiveOpt(key);
+        return nonCast == null ? defaultValue : toLong(key, nonCast);
     }
 
     public @Nullable Float optFloat(final @NotNull Object key) {
@@ -304,7 +781,12 @@ public abstract class OptGet implements Map<Object, Object> {
     }
 
     public float getFloat(final @NotNull Object key) {
-        return get(key, Float.class);
+        return toFloat(key, getNonCast(key, Float.class));
+    }
+
+    public float getFloat(final @NotNull Object key, final float defaultValue) {
+        Object nonCast = recursiveOpt(key);
+        return nonCast == null ? defaultValue : toFloat(key, nonCast);
     }
 
     public @Nullable Double optDouble(final @NotNull Object key) {
@@ -316,7 +798,12 @@ public abstract class OptGet implements Map<Object, Object> {
     }
 
     public double getDouble(final @NotNull Object key) {
-        return get(key, Double.class);
+        return toDouble(key, getNonCast(key, Double.class));
+    }
+
+    public double getDouble(final @NotNull Object key, final double defaultValue) {
+        Object nonCast = recursiveOpt(key);
+        return nonCast == null ? defaultValue : toDouble(key, nonCast);
     }
 
     public @Nullable OptGet optOptGet(final @NotNull Object key) {
@@ -340,7 +827,12 @@ public abstract class OptGet implements Map<Object, Object> {
     }
 
     public boolean getBoolean(final @NotNull Object key) {
-        return get(key, Boolean.class);
+        return toBoolean(key, getNonCast(key, Boolean.class));
+    }
+
+    public boolean getBoolean(final @NotNull Object key, final boolean defaultValue) {
+        Object nonCast = recursiveOpt(key);
+        return nonCast == null ? defaultValue : toBoolean(key, nonCast);
     }
 
     public @Nullable Boolean optBool(final @NotNull Object key) {
@@ -352,7 +844,12 @@ public abstract class OptGet implements Map<Object, Object> {
     }
 
     public boolean getBool(final @NotNull Object key) {
-        return get(key, Boolean.class);
+        return toBoolean(key, getNonCast(key, Boolean.class));
+    }
+
+    public boolean getBool(final @NotNull Object key, final boolean defaultValue) {
+        Object nonCast = recursiveOpt(key);
+        return nonCast == null ? defaultValue : toBoolean(key, nonCast);
     }
 
 
@@ -385,117 +882,140 @@ public abstract class OptGet implements Map<Object, Object> {
         return get(key, List.class);
     }
 
-    @SuppressWarnings("rawtypes")
     public <T> List<T> optList(final @NotNull Object key, final @NotNull Class<T> classToCast) {
+        return optList(key, classToCast, CollectionMode.EAGER);
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public <T> List<T> optList(final @NotNull Object key, final @NotNull Class<T> classToCast, final @NotNull CollectionMode mode) {
         List list = opt(key, List.class);
-        List<T> listCasted = new LinkedList<T>();
         if (list == null) {
             return null;
         }
+        if (mode == CollectionMode.LAZY || mode == CollectionMode.LAZY_MEMOIZED) {
+            return new CastingList<>(list, it -> cast(key, it, classToCast), mode == CollectionMode.LAZY_MEMOIZED);
+        }
+        if (mode == CollectionMode.PARALLEL && list.size() >= config.parallelThreshold) {
+            List source = list instanceof RandomAccess ? list : new ArrayList<Object>(list);
+            Object[] casted = new Object[source.size()];
+            ParallelConversion.run(casted.length, i -> {
+                Object o = source.get(i);
+                casted[i] = o == null ? null : cast(key, o, classToCast);
+            });
+            return new ArrayList<>((List<T>) Arrays.asList(casted));
+        }
+        List<T> listCasted = new ArrayList<>(list.size());
         for (Object o : list) {
-            T casted = cast(o, classToCast);
-            listCasted.add(casted);
+            listCasted.add(o == null ? null : cast(key, o, classToCast));
         }
         return listCasted;
     }
 
     public <T> List<T> getList(final @NotNull Object key, final @NotNull Class<T> classToCast) {
-        List<T> value = optList(key, classToCast);
+        return getList(key, classToCast, CollectionMode.EAGER);
+    }
+
+    public <T> List<T> getList(final @NotNull Object key, final @NotNull Class<T> classToCast, final @NotNull CollectionMode mode) {
+        List<T> value = optList(key, classToCast, mode);
         if (value == null) {
-            onNullValue(key.toString(), List.class);
+            nullValue(key.toString(), List.class);
         }
         return value;
     }
 
+    // Breaking change: optListOfX and getListOfX return read-only views that cast elements when they are read,
+    // they used to return mutable copies: add() and set() now throw UnsupportedOperationException,
+    // and a cast failure is thrown by get(i) rather than by the shortcut
+    // getList(key, class) and optList(key, class) still return a mutable ArrayList cast up front
     // GENERATED-BEGIN:LIST-SHORTCUTS
 
 
     public @Nullable List<String> optListOfString(final @NotNull Object key) {
-        return optList(key, String.class);
+        return optList(key, String.class, CollectionMode.LAZY);
     }
 
     public @NotNull List<String> getListOfString(final @NotNull Object key) {
-        return getList(key, String.class);
+        return getList(key, String.class, CollectionMode.LAZY);
     }
 
     public @Nullable List<Byte> optListOfByte(final @NotNull Object key) {
-        return optList(key, Byte.class);
+        return optList(key, Byte.class, CollectionMode.LAZY);
     }
 
     public @NotNull List<Byte> getListOfByte(final @NotNull Object key) {
-        return getList(key, Byte.class);
+        return getList(key, Byte.class, CollectionMode.LAZY);
     }
 
     public @Nullable List<Short> optListOfShort(final @NotNull Object key) {
-        return optList(key, Short.class);
+        return optList(key, Short.class, CollectionMode.LAZY);
     }
 
     public @NotNull List<Short> getListOfShort(final @NotNull Object key) {
-        return getList(key, Short.class);
+        return getList(key, Short.class, CollectionMode.LAZY);
     }
 
     public @Nullable List<Integer> optListOfInteger(final @NotNull Object key) {
-        return optList(key, Integer.class);
+        return optList(key, Integer.class, CollectionMode.LAZY);
     }
 
     public @NotNull List<Integer> getListOfInteger(final @NotNull Object key) {
-        return getList(key, Integer.class);
+        return getList(key, Integer.class, CollectionMode.LAZY);
     }
 
     public @Nullable List<Integer> optListOfInt(final @NotNull Object key) {
-        return optList(key, Integer.class);
+        return optList(key, Integer.class, CollectionMode.LAZY);
     }
 
     public @NotNull List<Integer> getListOfInt(final @NotNull Object key) {
-        return getList(key, Integer.class);
+        return getList(key, Integer.class, CollectionMode.LAZY);
     }
 
     public @Nullable List<Long> optListOfLong(final @NotNull Object key) {
-        return optList(key, Long.class);
+        return optList(key, Long.class, CollectionMode.LAZY);
     }
 
     public @NotNull List<Long> getListOfLong(final @NotNull Object key) {
-        return getList(key, Long.class);
+        return getList(key, Long.class, CollectionMode.LAZY);
     }
 
     public @Nullable List<Float> optListOfFloat(final @NotNull Object key) {
-        return optList(key, Float.class);
+        return optList(key, Float.class, CollectionMode.LAZY);
     }
 
     public @NotNull List<Float> getListOfFloat(final @NotNull Object key) {
-        return getList(key, Float.class);
+        return getList(key, Float.class, CollectionMode.LAZY);
     }
 
     public @Nullable List<Double> optListOfDouble(final @NotNull Object key) {
-        return optList(key, Double.class);
+        return optList(key, Double.class, CollectionMode.LAZY);
     }
 
     public @NotNull List<Double> getListOfDouble(final @NotNull Object key) {
-        return getList(key, Double.class);
+        return getList(key, Double.class, CollectionMode.LAZY);
     }
 
     public @Nullable List<OptGet> optListOfOptGet(final @NotNull Object key) {
-        return optList(key, OptGet.class);
+        return optList(key, OptGet.class, CollectionMode.LAZY);
     }
 
     public @NotNull List<OptGet> getListOfOptGet(final @NotNull Object key) {
-        return getList(key, OptGet.class);
+        return getList(key, OptGet.class, CollectionMode.LAZY);
     }
 
     public @Nullable List<Boolean> optListOfBoolean(final @NotNull Object key) {
-        return optList(key, Boolean.class);
+        return optList(key, Boolean.class, CollectionMode.LAZY);
     }
 
     public @NotNull List<Boolean> getListOfBoolean(final @NotNull Object key) {
-        return getList(key, Boolean.class);
+        return getList(key, Boolean.class, CollectionMode.LAZY);
     }
 
     public @Nullable List<Boolean> optListOfBool(final @NotNull Object key) {
-        return optList(key, Boolean.class);
+        return optList(key, Boolean.class, CollectionMode.LAZY);
     }
 
     public @NotNull List<Boolean> getListOfBool(final @NotNull Object key) {
-        return getList(key, Boolean.class);
+        return getList(key, Boolean.class, CollectionMode.LAZY);
     }
 
 
@@ -511,6 +1031,129 @@ public abstract class OptGet implements Map<Object, Object> {
         return getList(key, enumClass);
     }
 
+    // Primitive arrays and streams, filled straight from the underlying list without boxing
+
+    public int @Nullable [] optIntArray(final @NotNull Object key) {
+        List<?> list = optRandomAccessList(key);
+        if (list == null) {
+            return null;
+        }
+        int[] array = new int[list.size()];
+        for (int i = 0; i < array.length; i++) {
+            Object element = list.get(i);
+            array[i] = element == null ? nullElement(key, i, int.class) : toInt(key, element);
+        }
+        return array;
+    }
+
+    public int @NotNull [] getIntArray(final @NotNull Object key) {
+        int[] array = optIntArray(key);
+        if (array == null) {
+            nullValue(key.toString(), int[].class);
+        }
+        return Objects.requireNonNull(array);
+    }
+
+    public long @Nullable [] optLongArray(final @NotNull Object key) {
+        List<?> list = optRandomAccessList(key);
+        if (list == null) {
+            return null;
+        }
+        long[] array = new long[list.size()];
+        for (int i = 0; i < array.length; i++) {
+            Object element = list.get(i);
+            array[i] = element == null ? nullElement(key, i, long.class) : toLong(key, element);
+        }
+        return array;
+    }
+
+    public long @NotNull [] getLongArray(final @NotNull Object key) {
+        long[] array = optLongArray(key);
+        if (array == null) {
+            nullValue(key.toString(), long[].class);
+        }
+        return Objects.requireNonNull(array);
+    }
+
+    public double @Nullable [] optDoubleArray(final @NotNull Object key) {
+        List<?> list = optRandomAccessList(key);
+        if (list == null) {
+            return null;
+        }
+        double[] array = new double[list.size()];
+        for (int i = 0; i < array.length; i++) {
+            Object element = list.get(i);
+            array[i] = element == null ? nullElement(key, i, double.class) : toDouble(key, element);
+        }
+        return array;
+    }
+
+    public double @NotNull [] getDoubleArray(final @NotNull Object key) {
+        double[] array = optDoubleArray(key);
+        if (array == null) {
+            nullValue(key.toString(), double[].class);
+        }
+        return Objects.requireNonNull(array);
+    }
+
+    // Streams cast the elements when they are consumed
+    public @Nullable IntStream optIntStream(final @NotNull Object key) {
+        List<?> list = optRandomAccessList(key);
+        if (list == null) {
+            return null;
+        }
+        return IntStream.range(0, list.size()).map(i -> {
+            Object element = list.get(i);
+            return element == null ? nullElement(key, i, int.class) : toInt(key, element);
+        });
+    }
+
+    public @NotNull IntStream getIntStream(final @NotNull Object key) {
+        IntStream stream = optIntStream(key);
+        if (stream == null) {
+            nullValue(key.toString(), IntStream.class);
+        }
+        return Objects.requireNonNull(stream);
+    }
+
+    public @Nullable LongStream optLongStream(final @NotNull Object key) {
+        List<?> list = optRandomAccessList(key);
+        if (list == null) {
+            return null;
+        }
+        return IntStream.range(0, list.size()).mapToLong(i -> {
+            Object element = list.get(i);
+            return element == null ? nullElement(key, i, long.class) : toLong(key, element);
+        });
+    }
+
+    public @NotNull LongStream getLongStream(final @NotNull Object key) {
+        LongStream stream = optLongStream(key);
+        if (stream == null) {
+            nullValue(key.toString(), LongStream.class);
+        }
+        return Objects.requireNonNull(stream);
+    }
+
+    public @Nullable DoubleStream optDoubleStream(final @NotNull Object key) {
+        List<?> list = optRandomAccessList(key);
+        if (list == null) {
+            return null;
+        }
+        return IntStream.range(0, list.size()).mapToDouble(i -> {
+            Object element = list.get(i);
+            return element == null ? nullElement(key, i, double.class) : toDouble(key, element);
+        });
+    }
+
+    public @NotNull DoubleStream getDoubleStream(final @NotNull Object key) {
+        DoubleStream stream = optDoubleStream(key);
+        if (stream == null) {
+            nullValue(key.toString(), DoubleStream.class);
+        }
+        return Objects.requireNonNull(stream);
+    }
+
     // Map shortcuts
 
     @SuppressWarnings("rawtypes")
@@ -523,557 +1166,586 @@ public abstract class OptGet implements Map<Object, Object> {
         return get(key, Map.class);
     }
 
-    @SuppressWarnings("rawtypes")
     public @Nullable <KEY, VALUE> Map<KEY, VALUE> optMap(final @NotNull Object key, Class<KEY> keyToCast, final @NotNull Class<VALUE> valueToCast) {
+        return optMap(key, keyToCast, valueToCast, CollectionMode.EAGER);
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public @Nullable <KEY, VALUE> Map<KEY, VALUE> optMap(final @NotNull Object key, Class<KEY> keyToCast, final @NotNull Class<VALUE> valueToCast, final @NotNull CollectionMode mode) {
         Map map = opt(key, Map.class);
         if (map == null) {
             return null;
         }
-        Map<KEY, VALUE> mapCasted = new HashMap<>();
+        if (mode == CollectionMode.LAZY || mode == CollectionMode.LAZY_MEMOIZED) {
+            return new CastingMap<>(map, keyToCast, it -> cast(key, it, keyToCast), it -> cast(key, it, valueToCast), mode == CollectionMode.LAZY_MEMOIZED);
+        }
+        Map<KEY, VALUE> mapCasted = new HashMap<>((int) (map.size() / 0.75f) + 1);
+        if (mode == CollectionMode.PARALLEL && map.size() >= config.parallelThreshold) {
+            Object[] entries = map.entrySet().toArray();
+            Object[] keys = new Object[entries.length];
+            Object[] values = new Object[entries.length];
+            ParallelConversion.run(entries.length, i -> {
+                Map.Entry entry = (Map.Entry) entries[i];
+                keys[i] = cast(key, entry.getKey(), keyToCast);
+                values[i] = cast(key, entry.getValue(), valueToCast);
+            });
+            for (int i = 0; i < entries.length; i++) {
+                mapCasted.put((KEY) keys[i], (VALUE) values[i]);
+            }
+            return mapCasted;
+        }
         for (Object o : map.entrySet()) {
             Map.Entry entry = (Map.Entry) o;
-            mapCasted.put(cast(entry.getKey(), keyToCast), cast(entry.getValue(), valueToCast));
+            mapCasted.put(cast(key, entry.getKey(), keyToCast), cast(key, entry.getValue(), valueToCast));
         }
         return mapCasted;
     }
 
     public @NotNull <KEY, VALUE> Map<KEY, VALUE> getMap(final @NotNull Object key, final @NotNull Class<KEY> keyToCast, Class<VALUE> valueToCast) {
-        Map<KEY, VALUE> mapCasted = optMap(key, keyToCast, valueToCast);
+        return getMap(key, keyToCast, valueToCast, CollectionMode.EAGER);
+    }
+
+    public @NotNull <KEY, VALUE> Map<KEY, VALUE> getMap(final @NotNull Object key, final @NotNull Class<KEY> keyToCast, Class<VALUE> valueToCast, final @NotNull CollectionMode mode) {
+        Map<KEY, VALUE> mapCasted = optMap(key, keyToCast, valueToCast, mode);
         if (mapCasted == null) {
-            onNullValue(key, Map.class);
+            nullValue(key, Map.class);
         }
         return Objects.requireNonNull(mapCasted);
     }
 
+    // Breaking change: optMapOfXToY and getMapOfXToY return read-only views that cast entries when they are read,
+    // they used to return mutable copies: put() and remove() now throw UnsupportedOperationException,
+    // and a cast failure is thrown when the entry is read rather than by the shortcut
+    // getMap(key, keyClass, valueClass) and optMap(key, keyClass, valueClass) still return a mutable HashMap cast up front
     // GENERATED-BEGIN:MAP-SHORTCUTS
 
 
     public @Nullable Map<String, String> optMapOfStringToString(final @NotNull Object key) {
-        return optMap(key, String.class, String.class);
+        return optMap(key, String.class, String.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<String, String> getMapOfStringToString(final @NotNull Object key) {
-        return getMap(key, String.class, String.class);
+        return getMap(key, String.class, String.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<String, Byte> optMapOfStringToByte(final @NotNull Object key) {
-        return optMap(key, String.class, Byte.class);
+        return optMap(key, String.class, Byte.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<String, Byte> getMapOfStringToByte(final @NotNull Object key) {
-        return getMap(key, String.class, Byte.class);
+        return getMap(key, String.class, Byte.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<String, Short> optMapOfStringToShort(final @NotNull Object key) {
-        return optMap(key, String.class, Short.class);
+        return optMap(key, String.class, Short.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<String, Short> getMapOfStringToShort(final @NotNull Object key) {
-        return getMap(key, String.class, Short.class);
+        return getMap(key, String.class, Short.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<String, Integer> optMapOfStringToInteger(final @NotNull Object key) {
-        return optMap(key, String.class, Integer.class);
+        return optMap(key, String.class, Integer.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<String, Integer> getMapOfStringToInteger(final @NotNull Object key) {
-        return getMap(key, String.class, Integer.class);
+        return getMap(key, String.class, Integer.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<String, Integer> optMapOfStringToInt(final @NotNull Object key) {
-        return optMap(key, String.class, Integer.class);
+        return optMap(key, String.class, Integer.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<String, Integer> getMapOfStringToInt(final @NotNull Object key) {
-        return getMap(key, String.class, Integer.class);
+        return getMap(key, String.class, Integer.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<String, Long> optMapOfStringToLong(final @NotNull Object key) {
-        return optMap(key, String.class, Long.class);
+        return optMap(key, String.class, Long.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<String, Long> getMapOfStringToLong(final @NotNull Object key) {
-        return getMap(key, String.class, Long.class);
+        return getMap(key, String.class, Long.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<String, Float> optMapOfStringToFloat(final @NotNull Object key) {
-        return optMap(key, String.class, Float.class);
+        return optMap(key, String.class, Float.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<String, Float> getMapOfStringToFloat(final @NotNull Object key) {
-        return getMap(key, String.class, Float.class);
+        return getMap(key, String.class, Float.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<String, Double> optMapOfStringToDouble(final @NotNull Object key) {
-        return optMap(key, String.class, Double.class);
+        return optMap(key, String.class, Double.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<String, Double> getMapOfStringToDouble(final @NotNull Object key) {
-        return getMap(key, String.class, Double.class);
+        return getMap(key, String.class, Double.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<String, OptGet> optMapOfStringToOptGet(final @NotNull Object key) {
-        return optMap(key, String.class, OptGet.class);
+        return optMap(key, String.class, OptGet.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<String, OptGet> getMapOfStringToOptGet(final @NotNull Object key) {
-        return getMap(key, String.class, OptGet.class);
+        return getMap(key, String.class, OptGet.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<String, Boolean> optMapOfStringToBoolean(final @NotNull Object key) {
-        return optMap(key, String.class, Boolean.class);
+        return optMap(key, String.class, Boolean.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<String, Boolean> getMapOfStringToBoolean(final @NotNull Object key) {
-        return getMap(key, String.class, Boolean.class);
+        return getMap(key, String.class, Boolean.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<String, Boolean> optMapOfStringToBool(final @NotNull Object key) {
-        return optMap(key, String.class, Boolean.class);
+        return optMap(key, String.class, Boolean.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<String, Boolean> getMapOfStringToBool(final @NotNull Object key) {
-        return getMap(key, String.class, Boolean.class);
+        return getMap(key, String.class, Boolean.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<Integer, String> optMapOfIntegerToString(final @NotNull Object key) {
-        return optMap(key, Integer.class, String.class);
+        return optMap(key, Integer.class, String.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<Integer, String> getMapOfIntegerToString(final @NotNull Object key) {
-        return getMap(key, Integer.class, String.class);
+        return getMap(key, Integer.class, String.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<Integer, Byte> optMapOfIntegerToByte(final @NotNull Object key) {
-        return optMap(key, Integer.class, Byte.class);
+        return optMap(key, Integer.class, Byte.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<Integer, Byte> getMapOfIntegerToByte(final @NotNull Object key) {
-        return getMap(key, Integer.class, Byte.class);
+        return getMap(key, Integer.class, Byte.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<Integer, Short> optMapOfIntegerToShort(final @NotNull Object key) {
-        return optMap(key, Integer.class, Short.class);
+        return optMap(key, Integer.class, Short.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<Integer, Short> getMapOfIntegerToShort(final @NotNull Object key) {
-        return getMap(key, Integer.class, Short.class);
+        return getMap(key, Integer.class, Short.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<Integer, Integer> optMapOfIntegerToInteger(final @NotNull Object key) {
-        return optMap(key, Integer.class, Integer.class);
+        return optMap(key, Integer.class, Integer.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<Integer, Integer> getMapOfIntegerToInteger(final @NotNull Object key) {
-        return getMap(key, Integer.class, Integer.class);
+        return getMap(key, Integer.class, Integer.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<Integer, Integer> optMapOfIntegerToInt(final @NotNull Object key) {
-        return optMap(key, Integer.class, Integer.class);
+        return optMap(key, Integer.class, Integer.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<Integer, Integer> getMapOfIntegerToInt(final @NotNull Object key) {
-        return getMap(key, Integer.class, Integer.class);
+        return getMap(key, Integer.class, Integer.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<Integer, Long> optMapOfIntegerToLong(final @NotNull Object key) {
-        return optMap(key, Integer.class, Long.class);
+        return optMap(key, Integer.class, Long.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<Integer, Long> getMapOfIntegerToLong(final @NotNull Object key) {
-        return getMap(key, Integer.class, Long.class);
+        return getMap(key, Integer.class, Long.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<Integer, Float> optMapOfIntegerToFloat(final @NotNull Object key) {
-        return optMap(key, Integer.class, Float.class);
+        return optMap(key, Integer.class, Float.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<Integer, Float> getMapOfIntegerToFloat(final @NotNull Object key) {
-        return getMap(key, Integer.class, Float.class);
+        return getMap(key, Integer.class, Float.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<Integer, Double> optMapOfIntegerToDouble(final @NotNull Object key) {
-        return optMap(key, Integer.class, Double.class);
+        return optMap(key, Integer.class, Double.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<Integer, Double> getMapOfIntegerToDouble(final @NotNull Object key) {
-        return getMap(key, Integer.class, Double.class);
+        return getMap(key, Integer.class, Double.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<Integer, OptGet> optMapOfIntegerToOptGet(final @NotNull Object key) {
-        return optMap(key, Integer.class, OptGet.class);
+        return optMap(key, Integer.class, OptGet.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<Integer, OptGet> getMapOfIntegerToOptGet(final @NotNull Object key) {
-        return getMap(key, Integer.class, OptGet.class);
+        return getMap(key, Integer.class, OptGet.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<Integer, Boolean> optMapOfIntegerToBoolean(final @NotNull Object key) {
-        return optMap(key, Integer.class, Boolean.class);
+        return optMap(key, Integer.class, Boolean.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<Integer, Boolean> getMapOfIntegerToBoolean(final @NotNull Object key) {
-        return getMap(key, Integer.class, Boolean.class);
+        return getMap(key, Integer.class, Boolean.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<Integer, Boolean> optMapOfIntegerToBool(final @NotNull Object key) {
-        return optMap(key, Integer.class, Boolean.class);
+        return optMap(key, Integer.class, Boolean.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<Integer, Boolean> getMapOfIntegerToBool(final @NotNull Object key) {
-        return getMap(key, Integer.class, Boolean.class);
+        return getMap(key, Integer.class, Boolean.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<Integer, String> optMapOfIntToString(final @NotNull Object key) {
-        return optMap(key, Integer.class, String.class);
+        return optMap(key, Integer.class, String.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<Integer, String> getMapOfIntToString(final @NotNull Object key) {
-        return getMap(key, Integer.class, String.class);
+        return getMap(key, Integer.class, String.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<Integer, Byte> optMapOfIntToByte(final @NotNull Object key) {
-        return optMap(key, Integer.class, Byte.class);
+        return optMap(key, Integer.class, Byte.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<Integer, Byte> getMapOfIntToByte(final @NotNull Object key) {
-        return getMap(key, Integer.class, Byte.class);
+        return getMap(key, Integer.class, Byte.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<Integer, Short> optMapOfIntToShort(final @NotNull Object key) {
-        return optMap(key, Integer.class, Short.class);
+        return optMap(key, Integer.class, Short.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<Integer, Short> getMapOfIntToShort(final @NotNull Object key) {
-        return getMap(key, Integer.class, Short.class);
+        return getMap(key, Integer.class, Short.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<Integer, Integer> optMapOfIntToInteger(final @NotNull Object key) {
-        return optMap(key, Integer.class, Integer.class);
+        return optMap(key, Integer.class, Integer.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<Integer, Integer> getMapOfIntToInteger(final @NotNull Object key) {
-        return getMap(key, Integer.class, Integer.class);
+        return getMap(key, Integer.class, Integer.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<Integer, Integer> optMapOfIntToInt(final @NotNull Object key) {
-        return optMap(key, Integer.class, Integer.class);
+        return optMap(key, Integer.class, Integer.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<Integer, Integer> getMapOfIntToInt(final @NotNull Object key) {
-        return getMap(key, Integer.class, Integer.class);
+        return getMap(key, Integer.class, Integer.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<Integer, Long> optMapOfIntToLong(final @NotNull Object key) {
-        return optMap(key, Integer.class, Long.class);
+        return optMap(key, Integer.class, Long.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<Integer, Long> getMapOfIntToLong(final @NotNull Object key) {
-        return getMap(key, Integer.class, Long.class);
+        return getMap(key, Integer.class, Long.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<Integer, Float> optMapOfIntToFloat(final @NotNull Object key) {
-        return optMap(key, Integer.class, Float.class);
+        return optMap(key, Integer.class, Float.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<Integer, Float> getMapOfIntToFloat(final @NotNull Object key) {
-        return getMap(key, Integer.class, Float.class);
+        return getMap(key, Integer.class, Float.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<Integer, Double> optMapOfIntToDouble(final @NotNull Object key) {
-        return optMap(key, Integer.class, Double.class);
+        return optMap(key, Integer.class, Double.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<Integer, Double> getMapOfIntToDouble(final @NotNull Object key) {
-        return getMap(key, Integer.class, Double.class);
+        return getMap(key, Integer.class, Double.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<Integer, OptGet> optMapOfIntToOptGet(final @NotNull Object key) {
-        return optMap(key, Integer.class, OptGet.class);
+        return optMap(key, Integer.class, OptGet.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<Integer, OptGet> getMapOfIntToOptGet(final @NotNull Object key) {
-        return getMap(key, Integer.class, OptGet.class);
+        return getMap(key, Integer.class, OptGet.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<Integer, Boolean> optMapOfIntToBoolean(final @NotNull Object key) {
-        return optMap(key, Integer.class, Boolean.class);
+        return optMap(key, Integer.class, Boolean.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<Integer, Boolean> getMapOfIntToBoolean(final @NotNull Object key) {
-        return getMap(key, Integer.class, Boolean.class);
+        return getMap(key, Integer.class, Boolean.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<Integer, Boolean> optMapOfIntToBool(final @NotNull Object key) {
-        return optMap(key, Integer.class, Boolean.class);
+        return optMap(key, Integer.class, Boolean.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<Integer, Boolean> getMapOfIntToBool(final @NotNull Object key) {
-        return getMap(key, Integer.class, Boolean.class);
+        return getMap(key, Integer.class, Boolean.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<Long, String> optMapOfLongToString(final @NotNull Object key) {
-        return optMap(key, Long.class, String.class);
+        return optMap(key, Long.class, String.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<Long, String> getMapOfLongToString(final @NotNull Object key) {
-        return getMap(key, Long.class, String.class);
+        return getMap(key, Long.class, String.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<Long, Byte> optMapOfLongToByte(final @NotNull Object key) {
-        return optMap(key, Long.class, Byte.class);
+        return optMap(key, Long.class, Byte.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<Long, Byte> getMapOfLongToByte(final @NotNull Object key) {
-        return getMap(key, Long.class, Byte.class);
+        return getMap(key, Long.class, Byte.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<Long, Short> optMapOfLongToShort(final @NotNull Object key) {
-        return optMap(key, Long.class, Short.class);
+        return optMap(key, Long.class, Short.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<Long, Short> getMapOfLongToShort(final @NotNull Object key) {
-        return getMap(key, Long.class, Short.class);
+        return getMap(key, Long.class, Short.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<Long, Integer> optMapOfLongToInteger(final @NotNull Object key) {
-        return optMap(key, Long.class, Integer.class);
+        return optMap(key, Long.class, Integer.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<Long, Integer> getMapOfLongToInteger(final @NotNull Object key) {
-        return getMap(key, Long.class, Integer.class);
+        return getMap(key, Long.class, Integer.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<Long, Integer> optMapOfLongToInt(final @NotNull Object key) {
-        return optMap(key, Long.class, Integer.class);
+        return optMap(key, Long.class, Integer.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<Long, Integer> getMapOfLongToInt(final @NotNull Object key) {
-        return getMap(key, Long.class, Integer.class);
+        return getMap(key, Long.class, Integer.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<Long, Long> optMapOfLongToLong(final @NotNull Object key) {
-        return optMap(key, Long.class, Long.class);
+        return optMap(key, Long.class, Long.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<Long, Long> getMapOfLongToLong(final @NotNull Object key) {
-        return getMap(key, Long.class, Long.class);
+        return getMap(key, Long.class, Long.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<Long, Float> optMapOfLongToFloat(final @NotNull Object key) {
-        return optMap(key, Long.class, Float.class);
+        return optMap(key, Long.class, Float.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<Long, Float> getMapOfLongToFloat(final @NotNull Object key) {
-        return getMap(key, Long.class, Float.class);
+        return getMap(key, Long.class, Float.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<Long, Double> optMapOfLongToDouble(final @NotNull Object key) {
-        return optMap(key, Long.class, Double.class);
+        return optMap(key, Long.class, Double.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<Long, Double> getMapOfLongToDouble(final @NotNull Object key) {
-        return getMap(key, Long.class, Double.class);
+        return getMap(key, Long.class, Double.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<Long, OptGet> optMapOfLongToOptGet(final @NotNull Object key) {
-        return optMap(key, Long.class, OptGet.class);
+        return optMap(key, Long.class, OptGet.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<Long, OptGet> getMapOfLongToOptGet(final @NotNull Object key) {
-        return getMap(key, Long.class, OptGet.class);
+        return getMap(key, Long.class, OptGet.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<Long, Boolean> optMapOfLongToBoolean(final @NotNull Object key) {
-        return optMap(key, Long.class, Boolean.class);
+        return optMap(key, Long.class, Boolean.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<Long, Boolean> getMapOfLongToBoolean(final @NotNull Object key) {
-        return getMap(key, Long.class, Boolean.class);
+        return getMap(key, Long.class, Boolean.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<Long, Boolean> optMapOfLongToBool(final @NotNull Object key) {
-        return optMap(key, Long.class, Boolean.class);
+        return optMap(key, Long.class, Boolean.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<Long, Boolean> getMapOfLongToBool(final @NotNull Object key) {
-        return getMap(key, Long.class, Boolean.class);
+        return getMap(key, Long.class, Boolean.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<Float, String> optMapOfFloatToString(final @NotNull Object key) {
-        return optMap(key, Float.class, String.class);
+        return optMap(key, Float.class, String.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<Float, String> getMapOfFloatToString(final @NotNull Object key) {
-        return getMap(key, Float.class, String.class);
+        return getMap(key, Float.class, String.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<Float, Byte> optMapOfFloatToByte(final @NotNull Object key) {
-        return optMap(key, Float.class, Byte.class);
+        return optMap(key, Float.class, Byte.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<Float, Byte> getMapOfFloatToByte(final @NotNull Object key) {
-        return getMap(key, Float.class, Byte.class);
+        return getMap(key, Float.class, Byte.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<Float, Short> optMapOfFloatToShort(final @NotNull Object key) {
-        return optMap(key, Float.class, Short.class);
+        return optMap(key, Float.class, Short.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<Float, Short> getMapOfFloatToShort(final @NotNull Object key) {
-        return getMap(key, Float.class, Short.class);
+        return getMap(key, Float.class, Short.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<Float, Integer> optMapOfFloatToInteger(final @NotNull Object key) {
-        return optMap(key, Float.class, Integer.class);
+        return optMap(key, Float.class, Integer.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<Float, Integer> getMapOfFloatToInteger(final @NotNull Object key) {
-        return getMap(key, Float.class, Integer.class);
+        return getMap(key, Float.class, Integer.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<Float, Integer> optMapOfFloatToInt(final @NotNull Object key) {
-        return optMap(key, Float.class, Integer.class);
+        return optMap(key, Float.class, Integer.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<Float, Integer> getMapOfFloatToInt(final @NotNull Object key) {
-        return getMap(key, Float.class, Integer.class);
+        return getMap(key, Float.class, Integer.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<Float, Long> optMapOfFloatToLong(final @NotNull Object key) {
-        return optMap(key, Float.class, Long.class);
+        return optMap(key, Float.class, Long.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<Float, Long> getMapOfFloatToLong(final @NotNull Object key) {
-        return getMap(key, Float.class, Long.class);
+        return getMap(key, Float.class, Long.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<Float, Float> optMapOfFloatToFloat(final @NotNull Object key) {
-        return optMap(key, Float.class, Float.class);
+        return optMap(key, Float.class, Float.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<Float, Float> getMapOfFloatToFloat(final @NotNull Object key) {
-        return getMap(key, Float.class, Float.class);
+        return getMap(key, Float.class, Float.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<Float, Double> optMapOfFloatToDouble(final @NotNull Object key) {
-        return optMap(key, Float.class, Double.class);
+        return optMap(key, Float.class, Double.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<Float, Double> getMapOfFloatToDouble(final @NotNull Object key) {
-        return getMap(key, Float.class, Double.class);
+        return getMap(key, Float.class, Double.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<Float, OptGet> optMapOfFloatToOptGet(final @NotNull Object key) {
-        return optMap(key, Float.class, OptGet.class);
+        return optMap(key, Float.class, OptGet.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<Float, OptGet> getMapOfFloatToOptGet(final @NotNull Object key) {
-        return getMap(key, Float.class, OptGet.class);
+        return getMap(key, Float.class, OptGet.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<Float, Boolean> optMapOfFloatToBoolean(final @NotNull Object key) {
-        return optMap(key, Float.class, Boolean.class);
+        return optMap(key, Float.class, Boolean.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<Float, Boolean> getMapOfFloatToBoolean(final @NotNull Object key) {
-        return getMap(key, Float.class, Boolean.class);
+        return getMap(key, Float.class, Boolean.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<Float, Boolean> optMapOfFloatToBool(final @NotNull Object key) {
-        return optMap(key, Float.class, Boolean.class);
+        return optMap(key, Float.class, Boolean.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<Float, Boolean> getMapOfFloatToBool(final @NotNull Object key) {
-        return getMap(key, Float.class, Boolean.class);
+        return getMap(key, Float.class, Boolean.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<Double, String> optMapOfDoubleToString(final @NotNull Object key) {
-        return optMap(key, Double.class, String.class);
+        return optMap(key, Double.class, String.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<Double, String> getMapOfDoubleToString(final @NotNull Object key) {
-        return getMap(key, Double.class, String.class);
+        return getMap(key, Double.class, String.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<Double, Byte> optMapOfDoubleToByte(final @NotNull Object key) {
-        return optMap(key, Double.class, Byte.class);
+        return optMap(key, Double.class, Byte.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<Double, Byte> getMapOfDoubleToByte(final @NotNull Object key) {
-        return getMap(key, Double.class, Byte.class);
+        return getMap(key, Double.class, Byte.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<Double, Short> optMapOfDoubleToShort(final @NotNull Object key) {
-        return optMap(key, Double.class, Short.class);
+        return optMap(key, Double.class, Short.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<Double, Short> getMapOfDoubleToShort(final @NotNull Object key) {
-        return getMap(key, Double.class, Short.class);
+        return getMap(key, Double.class, Short.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<Double, Integer> optMapOfDoubleToInteger(final @NotNull Object key) {
-        return optMap(key, Double.class, Integer.class);
+        return optMap(key, Double.class, Integer.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<Double, Integer> getMapOfDoubleToInteger(final @NotNull Object key) {
-        return getMap(key, Double.class, Integer.class);
+        return getMap(key, Double.class, Integer.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<Double, Integer> optMapOfDoubleToInt(final @NotNull Object key) {
-        return optMap(key, Double.class, Integer.class);
+        return optMap(key, Double.class, Integer.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<Double, Integer> getMapOfDoubleToInt(final @NotNull Object key) {
-        return getMap(key, Double.class, Integer.class);
+        return getMap(key, Double.class, Integer.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<Double, Long> optMapOfDoubleToLong(final @NotNull Object key) {
-        return optMap(key, Double.class, Long.class);
+        return optMap(key, Double.class, Long.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<Double, Long> getMapOfDoubleToLong(final @NotNull Object key) {
-        return getMap(key, Double.class, Long.class);
+        return getMap(key, Double.class, Long.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<Double, Float> optMapOfDoubleToFloat(final @NotNull Object key) {
-        return optMap(key, Double.class, Float.class);
+        return optMap(key, Double.class, Float.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<Double, Float> getMapOfDoubleToFloat(final @NotNull Object key) {
-        return getMap(key, Double.class, Float.class);
+        return getMap(key, Double.class, Float.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<Double, Double> optMapOfDoubleToDouble(final @NotNull Object key) {
-        return optMap(key, Double.class, Double.class);
+        return optMap(key, Double.class, Double.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<Double, Double> getMapOfDoubleToDouble(final @NotNull Object key) {
-        return getMap(key, Double.class, Double.class);
+        return getMap(key, Double.class, Double.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<Double, OptGet> optMapOfDoubleToOptGet(final @NotNull Object key) {
-        return optMap(key, Double.class, OptGet.class);
+        return optMap(key, Double.class, OptGet.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<Double, OptGet> getMapOfDoubleToOptGet(final @NotNull Object key) {
-        return getMap(key, Double.class, OptGet.class);
+        return getMap(key, Double.class, OptGet.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<Double, Boolean> optMapOfDoubleToBoolean(final @NotNull Object key) {
-        return optMap(key, Double.class, Boolean.class);
+        return optMap(key, Double.class, Boolean.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<Double, Boolean> getMapOfDoubleToBoolean(final @NotNull Object key) {
-        return getMap(key, Double.class, Boolean.class);
+        return getMap(key, Double.class, Boolean.class, CollectionMode.LAZY);
     }
 
     public @Nullable Map<Double, Boolean> optMapOfDoubleToBool(final @NotNull Object key) {
-        return optMap(key, Double.class, Boolean.class);
+        return optMap(key, Double.class, Boolean.class, CollectionMode.LAZY);
     }
 
     public @NotNull Map<Double, Boolean> getMapOfDoubleToBool(final @NotNull Object key) {
-        return getMap(key, Double.class, Boolean.class);
+        return getMap(key, Double.class, Boolean.class, CollectionMode.LAZY);
     }
 
 
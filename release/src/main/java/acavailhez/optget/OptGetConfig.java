@@ -0,0 +1,69 @@
+package acavailhez.optget;
+
+import acavailhez.optget.casts.CastMode;
+import acavailhez.optget.casts.CastRegistry;
+import acavailhez.optget.metrics.OptGetMetrics;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+// Everything that changes how an OptGet reads and casts, replaced as a whole by the setters
+// All fields are final: a thread that sees an instance sees it complete, whatever the publication of the OptGet
+final class OptGetConfig {
+
+    static final OptGetConfig DEFAULT = new OptGetConfig(CastRegistry.DEFAULT, CastMode.CLEAN, OptGet.DEFAULT_PARALLEL_THRESHOLD, null, false);
+
+    // code used to cast Object to the desired class
+    // shared between all instances until addCast is called
+    final CastRegistry castors;
+
+    // How strict we are when casting
+    final CastMode castMode;
+
+    // Size from which CollectionMode.PARALLEL splits conversions across threads
+    final int parallelThreshold;
+
+    // Counters for lookups and casts, null when they are not recorded
+    final @Nullable OptGetMetrics metrics;
+
+    // once frozen, the setters throw
+    final boolean frozen;
+
+    private OptGetConfig(final @NotNull CastRegistry castors, final @NotNull CastMode castMode, final int parallelThreshold,
+                         final @Nullable OptGetMetrics metrics, final boolean frozen) {
+        this.castors = castors;
+        this.castMode = castMode;
+        this.parallelThreshold = parallelThreshold;
+        this.metrics = metrics;
+        this.frozen = frozen;
+    }
+
+    @NotNull OptGetConfig withCastors(final @NotNull CastRegistry castors) {
+        checkNotFrozen();
+        return new OptGetConfig(castors, castMode, parallelThreshold, metrics, false);
+    }
+
+    @NotNull OptGetConfig withCastMode(final @NotNull CastMode castMode) {
+        checkNotFrozen();
+        return new OptGetConfig(castors, castMode, parallelThreshold, metrics, false);
+    }
+
+    @NotNull OptGetConfig withParallelThreshold(final int parallelThreshold) {
+        checkNotFrozen();
+        return new OptGetConfig(castors, castMode, parallelThreshold, metrics, false);
+    }
+
+    @NotNull OptGetConfig withMetrics(final @Nullable OptGetMetrics metrics) {
+        checkNotFrozen();
+        return new OptGetConfig(castors, castMode, parallelThreshold, metrics, false);
+    }
+
+    @NotNull OptGetConfig freeze() {
+        return frozen ? this : new OptGetConfig(castors, castMode, parallelThreshold, metrics, true);
+    }
+
+    private void checkNotFrozen() {
+        if (frozen) {
+            throw new IllegalStateException("The configuration of this OptGet is frozen");
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package acavailhez.optget;
+
+import acavailhez.optget.paths.OptPath;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+// The values matching a path with wildcards, found depth-first as the stream is consumed
+// "*" matches every value of an object or list, "**" matches zero or more levels of objects and lists
+// Anything but a Map or a List is a leaf: no segment goes through it, so a UUID or a POJO is never cast on the way
+// Splits divide the largest range of list elements still to visit, so that parallel streams fan out over large lists
+final class QuerySpliterator implements Spliterator<Object> {
+
+    private static final String ANY = "*";
+    private static final String DEEP = "**";
+
+    private final OptGet root;
+    private final OptPath path;
+    // nodes still to visit, the first one comes first in encounter order
+    private final ArrayDeque<Pending> stack;
+
+    QuerySpliterator(final @NotNull OptGet root, final @NotNull OptPath path) {
+        this(root, path, new ArrayDeque<>());
+        if (path.size() > 0) {
+            stack.push(new Pending(Collections.singletonList(root), 0, 1, 0));
+        }
+    }
+
+    private QuerySpliterator(final @NotNull OptGet root, final @NotNull OptPath path, final @NotNull ArrayDeque<Pending> stack) {
+        this.root = root;
+        this.path = path;
+        this.stack = stack;
+    }
+
+    @Override
+    public boolean tryAdvance(final @NotNull Consumer<? super Object> action) {
+        while (!stack.isEmpty()) {
+            Pending pending = stack.peek();
+            if (!pending.hasNext()) {
+                stack.pop();
+            } else if (pending.segment == path.size()) {
+                Object node = pending.next();
+                if (node != null) {
+                    action.accept(node);
+                    return true;
+                }
+            } else {
+                descend(pending);
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public @Nullable Spliterator<Object> trySplit() {
+        Pending largest = largestRange();
+        // no list reached yet, go down until one is or until the next node is a match
+        while (largest == null && !stack.isEmpty()) {
+            Pending pending = stack.peek();
+            if (!pending.hasNext()) {
+                stack.pop();
+                continue;
+            }
+            if (pending.segment == path.size()) {
+                return null;
+            }
+            descend(pending);
+            largest = largestRange();
+        }
+        if (largest == null) {
+            return null;
+        }
+        // the split keeps the encounter order: the prefix is everything before the range, and the first half of it
+        ArrayDeque<Pending> prefix = new ArrayDeque<>();
+        while (stack.peek() != largest) {
+            prefix.addLast(stack.pop());
+        }
+        int middle = (largest.from + largest.to) >>> 1;
+        prefix.addLast(new Pending(largest.list, largest.from, middle, largest.segment));
+        largest.from = middle;
+        return new QuerySpliterator(root, path, prefix);
+    }
+
+    // The number of nodes still to visit at the levels already reached, not the number of matches
+    @Override
+    public long estimateSize() {
+        long size = 0;
+        for (Pending pending : stack) {
+            size += pending.list != null ? pending.to - pending.from : 1;
+        }
+        return size;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL;
+    }
+
+    // Matches the next node of pending against its segment, and pushes what is left to visit under it
+    private void descend(final @NotNull Pending pending) {
+        int s = pending.segment;
+        Object node = pending.next();
+        if (node == null) {
+            return;
+        }
+        String segment = path.segment(s);
+        if (segment.equals(DEEP)) {
+            // the node itself first, then its children for deeper matches
+            push(children(node, s));
+            stack.push(new Pending(Collections.singletonList(node), 0, 1, s + 1));
+        } else if (segment.equals(ANY)) {
+            push(children(node, s + 1));
+        } else if (node instanceof Map || node instanceof List) {
+            Object next = root.step(node, segment, path.index(s));
+            if (next != null) {
+                stack.push(new Pending(Collections.singletonList(next), 0, 1, s + 1));
+            }
+        }
+    }
+
+    private @Nullable Pending largestRange() {
+        Pending largest = null;
+        for (Pending pending : stack) {
+            if (pending.list != null && pending.to - pending.from >= 2 && (largest == null || pending.to - pending.from > largest.to - largest.from)) {
+                largest = pending;
+            }
+        }
+        return largest;
+    }
+
+    private void push(final @Nullable Pending pending) {
+        if (pending != null) {
+            stack.push(pending);
+        }
+    }
+
+    // Values of an object or elements of a list, to be matched from a segment on
+    @SuppressWarnings("rawtypes")
+    private static @Nullable Pending children(final @NotNull Object node, final int segment) {
+        if (node instanceof List && node instanceof RandomAccess) {
+            List list = (List) node;
+            return new Pending(list, 0, list.size(), segment);
+        }
+        if (node instanceof Map) {
+            // OptGet values are a view over its keys
+            return new Pending(((Map) node).values().iterator(), segment);
+        }
+        if (node instanceof List) {
+            return new Pending(((List) node).iterator(), segment);
+        }
+        return null;
+    }
+
+    // Either a range of a random access list, or an iterator over the values of anything else
+    private static final class Pending {
+        private final List<?> list;
+        private int from;
+        private final int to;
+        private final Iterator<?> iterator;
+        // index of the first segment left to match
+        private final int segment;
+
+        private Pending(final @NotNull List<?> list, final int from, final int to, final int segment) {
+            this.list = list;
+            this.from = from;
+            this.to = to;
+            this.iterator = null;
+            this.segment = segment;
+        }
+
+        private Pending(final @NotNull Iterator<?> iterator, final int segment) {
+            this.list = null;
+            this.from = 0;
+            this.to = 0;
+            this.iterator = iterator;
+            this.segment = segment;
+        }
+
+        private boolean hasNext() {
+            return list != null ? from < to : iterator.hasNext();
+        }
+
+        private @Nullable Object next() {
+            return list != null ? list.get(from++) : iterator.next();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package acavailhez.optget.binds;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Path to read a record component or a POJO property from, when it differs from its name
+// eg: record Feature(@BindPath("geometry.type") String type) {}
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.RECORD_COMPONENT, ElementType.FIELD, ElementType.METHOD})
+public @interface BindPath {
+    String value();
+}
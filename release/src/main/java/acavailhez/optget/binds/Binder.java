@@ -0,0 +1,268 @@
+package acavailhez.optget.binds;
+
+import acavailhez.optget.OptGet;
+import acavailhez.optget.paths.OptPath;
+import acavailhez.optget.paths.OptPaths;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+// Maps an OptGet into a record, through its canonical constructor, or into a POJO, through its setters
+// The plan of a class (paths, casts, MethodHandles) is computed once, binding is then only lookups and casts
+// The paths of all the properties are read in a single walk, "geometry.type" and "geometry.coordinates" share "geometry"
+public final class Binder {
+
+    private static final ClassValue<Binder> BINDERS = new ClassValue<>() {
+        @Override
+        protected Binder computeValue(final Class<?> type) {
+            try {
+                return new Binder(type);
+            } catch (RuntimeException e) {
+                // kept, so that a class that cannot be bound is not introspected again on every call
+                return new Binder(type, e);
+            }
+        }
+    };
+
+    private final Class<?> type;
+    private final Property[] properties;
+    // the paths of all the properties, read in a single walk
+    private final OptPaths paths;
+    // why the class cannot be bound, null when it can
+    private final @Nullable RuntimeException failure;
+    // records: (Object[])Object canonical constructor
+    private final @Nullable MethodHandle canonicalConstructor;
+    // POJOs: ()Object constructor, then one (Object,Object)void setter per property
+    private final @Nullable MethodHandle constructor;
+
+    private Binder(final @NotNull Class<?> type) {
+        this.type = type;
+        MethodHandles.Lookup lookup = lookup(type);
+        List<Property> properties = new ArrayList<>();
+        try {
+            if (type.isRecord()) {
+                RecordComponent[] components = type.getRecordComponents();
+                Class<?>[] componentTypes = new Class<?>[components.length];
+                for (int i = 0; i < components.length; i++) {
+                    RecordComponent component = components[i];
+                    componentTypes[i] = component.getType();
+                    properties.add(new Property(path(component.getAnnotation(BindPath.class), component.getName()),
+                            component.getType(), component.getGenericType(), null));
+                }
+                MethodHandle canonical = lookup.unreflectConstructor(type.getDeclaredConstructor(componentTypes));
+                this.canonicalConstructor = canonical
+                        .asType(canonical.type().generic())
+                        .asSpreader(Object[].class, components.length)
+                        .asType(MethodType.methodType(Object.class, Object[].class));
+                this.constructor = null;
+            } else {
+                MethodHandle noArgs = lookup.unreflectConstructor(type.getDeclaredConstructor());
+                this.constructor = noArgs.asType(MethodType.methodType(Object.class));
+                this.canonicalConstructor = null;
+                for (Method method : type.getMethods()) {
+                    String name = method.getName();
+                    if (Modifier.isStatic(method.getModifiers()) || method.getParameterCount() != 1
+                            || name.length() <= 3 || !name.startsWith("set")) {
+                        continue;
+                    }
+                    String property = Character.toLowerCase(name.charAt(3)) + name.substring(4);
+                    BindPath bindPath = method.getAnnotation(BindPath.class);
+                    if (bindPath == null) {
+                        bindPath = fieldAnnotation(type, property);
+                    }
+                    MethodHandle setter = lookup.unreflect(method)
+                            .asType(MethodType.methodType(void.class, Object.class, Object.class));
+                    properties.add(new Property(path(bindPath, property),
+                            method.getParameterTypes()[0], method.getGenericParameterTypes()[0], setter));
+                }
+            }
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Cannot bind to class " + type.getName()
+                    + ", it must be a record or have a no-argument constructor", e);
+        }
+        this.properties = properties.toArray(new Property[0]);
+        OptPath[] propertyPaths = new OptPath[this.properties.length];
+        for (int i = 0; i < propertyPaths.length; i++) {
+            propertyPaths[i] = this.properties[i].path;
+        }
+        this.paths = OptPaths.compile(propertyPaths);
+        this.failure = null;
+    }
+
+    private Binder(final @NotNull Class<?> type, final @NotNull RuntimeException failure) {
+        this.type = type;
+        this.properties = new Property[0];
+        this.paths = OptPaths.compile(new OptPath[0]);
+        this.canonicalConstructor = null;
+        this.constructor = null;
+        this.failure = failure;
+    }
+
+    public static <R> @NotNull R bind(final @NotNull OptGet optGet, final @NotNull Class<R> type) {
+        return type.cast(BINDERS.get(type).bind(optGet));
+    }
+
+    private @NotNull Object bind(final @NotNull OptGet optGet) {
+        if (failure != null) {
+            throw new IllegalArgumentException(failure.getMessage(), failure);
+        }
+        Object[] values = optGet.optAll(paths);
+        try {
+            if (canonicalConstructor != null) {
+                for (int i = 0; i < properties.length; i++) {
+                    values[i] = properties[i].read(optGet, values[i]);
+                }
+                return (Object) canonicalConstructor.invokeExact(values);
+            }
+            Object bound = (Object) constructor.invokeExact();
+            for (int i = 0; i < properties.length; i++) {
+                Object value = properties[i].read(optGet, values[i]);
+                if (value != null) {
+                    properties[i].setter.invokeExact(bound, value);
+                }
+            }
+            return bound;
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalArgumentException("Cannot bind to class " + type.getName(), t);
+        }
+    }
+
+    // One record component or POJO property
+    private static final class Property {
+
+        private final OptPath path;
+        // class the value is cast to, boxed for primitives
+        private final Class<?> castClass;
+        // value used for missing primitives, the canonical constructor cannot take null
+        private final @Nullable Object missing;
+        // element class for List<X> properties
+        private final @Nullable Class<?> elementClass;
+        // records and classes with a no-argument constructor are bound recursively, unless a cast to them is registered
+        private final boolean bindable;
+        private final boolean elementBindable;
+        private final @Nullable MethodHandle setter;
+
+        private Property(final @NotNull OptPath path, final @NotNull Class<?> type, final @NotNull Type genericType, final @Nullable MethodHandle setter) {
+            this.path = path;
+            this.castClass = type.isPrimitive() ? MethodType.methodType(type).wrap().returnType() : type;
+            this.missing = type.isPrimitive() ? zero(type) : null;
+            this.elementClass = type == List.class ? elementClass(genericType) : null;
+            this.bindable = isBindable(type);
+            this.elementBindable = elementClass != null && isBindable(elementClass);
+            this.setter = setter;
+        }
+
+        // The value of the property from the raw value at its path
+        private @Nullable Object read(final @NotNull OptGet optGet, final @Nullable Object raw) {
+            Object value;
+            if (raw == null) {
+                value = null;
+            } else if (elementClass != null) {
+                value = readList(optGet, optGet.castValue(path, raw, List.class));
+            } else if (castClass.isInstance(raw)) {
+                value = raw;
+            } else if (isNested(optGet, castClass, bindable)) {
+                value = BINDERS.get(castClass).bind(optGet.castValue(path, raw, OptGet.class));
+            } else {
+                value = optGet.castValue(path, raw, castClass);
+            }
+            return value == null ? missing : value;
+        }
+
+        private @NotNull List<?> readList(final @NotNull OptGet optGet, final @NotNull List<?> elements) {
+            Binder binder = isNested(optGet, elementClass, elementBindable) ? BINDERS.get(elementClass) : null;
+            List<Object> bound = new ArrayList<>(elements.size());
+            for (Object element : elements) {
+                if (element == null || elementClass.isInstance(element)) {
+                    bound.add(element);
+                } else if (binder != null) {
+                    bound.add(binder.bind(optGet.castValue(path, element, OptGet.class)));
+                } else {
+                    bound.add(optGet.castValue(path, element, elementClass));
+                }
+            }
+            return bound;
+        }
+    }
+
+    private static @NotNull OptPath path(final @Nullable BindPath bindPath, final @NotNull String name) {
+        return OptPath.compile(bindPath != null ? bindPath.value() : name);
+    }
+
+    private static @Nullable BindPath fieldAnnotation(final @NotNull Class<?> type, final @NotNull String property) {
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                if (field.getName().equals(property)) {
+                    return field.getAnnotation(BindPath.class);
+                }
+            }
+        }
+        return null;
+    }
+
+    private static @NotNull Class<?> elementClass(final @NotNull Type genericType) {
+        if (genericType instanceof ParameterizedType) {
+            Type argument = ((ParameterizedType) genericType).getActualTypeArguments()[0];
+            if (argument instanceof Class) {
+                return (Class<?>) argument;
+            }
+        }
+        return Object.class;
+    }
+
+    // A class is bound recursively when the OptGet has no cast to it and it can be bound:
+    // the OptGet decides, so a value type with a registered cast (Joda, Guava, javax...) is cast instead
+    private static boolean isNested(final @NotNull OptGet optGet, final @NotNull Class<?> type, final boolean bindable) {
+        return bindable && !optGet.hasCast(type);
+    }
+
+    // Records, and concrete classes with a no-argument constructor that are not containers or enums
+    // Decided from the shape of the class only, not its package
+    private static boolean isBindable(final @NotNull Class<?> type) {
+        if (type.isRecord()) {
+            return true;
+        }
+        if (type.isPrimitive() || type.isInterface() || type.isEnum() || type.isArray() || Modifier.isAbstract(type.getModifiers())
+                || OptGet.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type) || Collection.class.isAssignableFrom(type)) {
+            return false;
+        }
+        try {
+            type.getDeclaredConstructor();
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static @NotNull Object zero(final @NotNull Class<?> primitive) {
+        try {
+            return (Object) MethodHandles.zero(primitive).asType(MethodType.methodType(Object.class)).invokeExact();
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+
+    // Private lookup when the module allows it, so records do not need to be public
+    private static @NotNull MethodHandles.Lookup lookup(final @NotNull Class<?> type) {
+        try {
+            return MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+        } catch (IllegalAccessException e) {
+            return MethodHandles.publicLookup();
+        }
+    }
+}
@@ -11,4 +11,10 @@ public abstract class AbstractCast<T> {
     public abstract @NotNull T cast(@NotNull final Object unknown, @NotNull final CastMode mode);
 
     public abstract @NotNull Class<T> getCastClass();
+
+    // Whether cast() knows how to handle instances of sourceClass directly
+    // When it does not, CastRegistry will look for an intermediate cast (eg custom class -> String -> Long)
+    public boolean accepts(@NotNull final Class<?> sourceClass) {
+        return true;
+    }
 }
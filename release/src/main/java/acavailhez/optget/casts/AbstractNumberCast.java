@@ -17,25 +17,22 @@ abstract class AbstractNumberCast<N extends Number> extends AbstractCast<N> {
         }
         if (unknown instanceof String) {
             try {
-                if (mode == CastMode.UNSAFE_BEST_EFFORT) {
-                    String cleaned = ((String) unknown).replaceAll("[^0-9.e-]", "");
-                    Number number = Double.parseDouble(cleaned);
-                    return valueFromNumber(number);
-                }
-                if (mode == CastMode.CLEAN) {
-                    String cleaned = ((String) unknown).replaceAll("[^0-9.e-]", "");
-                    return valueFromString(cleaned);
-                }
-                return valueFromString((String) unknown);
+                return valueFromString((String) unknown, mode);
             } catch (final NumberFormatException e) {
-                throw new CastException(unknown, Integer.class, e);
+                throw new CastException(unknown, this.getCastClass(), e);
             }
         }
-        throw new CastException(unknown, Integer.class);
+        throw new CastException(unknown, this.getCastClass());
+    }
+
+    @Override
+    public boolean accepts(@NotNull final Class<?> sourceClass) {
+        return Number.class.isAssignableFrom(sourceClass) || sourceClass == String.class;
     }
 
     protected abstract @NotNull N valueFromNumber(Number number);
 
-    protected abstract @NotNull N valueFromString(String string);
+    // Parse a String, that is first cleaned in CLEAN and UNSAFE_BEST_EFFORT modes
+    protected abstract @NotNull N valueFromString(String string, CastMode mode);
 
 }
@@ -2,7 +2,7 @@ package acavailhez.optget.casts;
 
 import org.jetbrains.annotations.NotNull;
 
-public class BooleanCast extends AbstractCast<Boolean> {
+public class BooleanCast extends AbstractCast<Boolean> implements ToBooleanCast {
 
     @Override
     public @NotNull Boolean cast(@NotNull Object unknown, @NotNull CastMode mode) {
@@ -27,6 +27,14 @@ public class BooleanCast extends AbstractCast<Boolean> {
         throw new CastException(unknown, Boolean.class);
     }
 
+    @Override
+    public boolean castToBoolean(@NotNull final Object unknown, @NotNull final CastMode mode) {
+        if (unknown instanceof Boolean) {
+            return (Boolean) unknown;
+        }
+        return cast(unknown, mode);
+    }
+
     @Override
     public @NotNull Class<Boolean> getCastClass() {
         return Boolean.class;
@@ -10,8 +10,18 @@ public class ByteCast extends AbstractNumberCast<Byte> {
     }
 
     @Override
-    protected @NotNull Byte valueFromString(String string) {
-        return Byte.valueOf(string);
+    protected @NotNull Byte valueFromString(String string, CastMode mode) {
+        return parseByte(string, mode);
+    }
+
+    private static byte parseByte(String string, CastMode mode) {
+        if (mode == CastMode.UNSAFE_BEST_EFFORT) {
+            return (byte) (int) NumberScanner.parseDouble(string);
+        }
+        if (mode == CastMode.CLEAN) {
+            return NumberScanner.parseByte(string);
+        }
+        return Byte.parseByte(string);
     }
 
     @Override
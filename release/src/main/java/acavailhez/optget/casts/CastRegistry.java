@@ -0,0 +1,163 @@
+package acavailhez.optget.casts;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// Immutable set of casts, indexed by the class they cast to
+// The DEFAULT registry is shared by every OptGet, adding a cast creates a modified copy (copy-on-write)
+// so an OptGet only pays for its own registry when it customizes it
+// Casts must therefore be stateless
+public final class CastRegistry {
+
+    public static final CastRegistry DEFAULT = new CastRegistry(Map.of())
+            .with(new StringCast())
+            .with(new LongCast())
+            .with(new IntegerCast())
+            .with(new ShortCast())
+            .with(new ByteCast())
+            .with(new FloatCast())
+            .with(new DoubleCast())
+            .with(new OptGetCast());
+
+    @SuppressWarnings("rawtypes")
+    private final Map<Class, AbstractCast> castors;
+
+    // converters resolved for this registry, by source class then by target class
+    // ClassValues keep them on the classes themselves, so a cached converter never pins a class (and its class loader),
+    // and as nothing cached refers back to the registry, a registry replaced by addCast can be collected too
+    private final BySource converters;
+
+    // primitive casts, null when the registered cast does not implement them
+    private final @Nullable ToIntCast intCast;
+    private final @Nullable ToLongCast longCast;
+    private final @Nullable ToFloatCast floatCast;
+    private final @Nullable ToDoubleCast doubleCast;
+    private final @Nullable ToBooleanCast booleanCast;
+
+    @SuppressWarnings("rawtypes")
+    private CastRegistry(final @NotNull Map<Class, AbstractCast> castors) {
+        this.castors = castors;
+        this.converters = new BySource(castors);
+        this.intCast = primitiveCast(Integer.class, ToIntCast.class);
+        this.longCast = primitiveCast(Long.class, ToLongCast.class);
+        this.floatCast = primitiveCast(Float.class, ToFloatCast.class);
+        this.doubleCast = primitiveCast(Double.class, ToDoubleCast.class);
+        this.booleanCast = primitiveCast(Boolean.class, ToBooleanCast.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> @Nullable AbstractCast<T> get(final @NotNull Class<T> castClass) {
+        return castors.get(castClass);
+    }
+
+    public @Nullable ToIntCast intCast() {
+        return intCast;
+    }
+
+    public @Nullable ToLongCast longCast() {
+        return longCast;
+    }
+
+    public @Nullable ToFloatCast floatCast() {
+        return floatCast;
+    }
+
+    public @Nullable ToDoubleCast doubleCast() {
+        return doubleCast;
+    }
+
+    public @Nullable ToBooleanCast booleanCast() {
+        return booleanCast;
+    }
+
+    // The converter for values of class source to class target, computed on first use then cached
+    @SuppressWarnings("unchecked")
+    public <T> @NotNull Converter<T> converter(final @NotNull Class<?> source, final @NotNull Class<T> target) {
+        return (Converter<T>) converters.get(source).get(target);
+    }
+
+    // A copy of this registry where cast replaces any cast to the same class
+    @SuppressWarnings("rawtypes")
+    public <T> @NotNull CastRegistry with(final @NotNull AbstractCast<T> cast) {
+        Map<Class, AbstractCast> copy = new HashMap<>(castors);
+        copy.put(cast.getCastClass(), cast);
+        return new CastRegistry(Map.copyOf(copy));
+    }
+
+    // The converters of one registry for each source class, holds the casts but not the registry
+    private static final class BySource extends ClassValue<ByTarget> {
+
+        @SuppressWarnings("rawtypes")
+        private final Map<Class, AbstractCast> castors;
+
+        @SuppressWarnings("rawtypes")
+        private BySource(final @NotNull Map<Class, AbstractCast> castors) {
+            this.castors = castors;
+        }
+
+        @Override
+        protected ByTarget computeValue(final Class<?> source) {
+            return new ByTarget(castors, source);
+        }
+    }
+
+    // The converters from one source class, for each target class
+    private static final class ByTarget extends ClassValue<Converter<?>> {
+
+        @SuppressWarnings("rawtypes")
+        private final Map<Class, AbstractCast> castors;
+        private final Class<?> source;
+
+        @SuppressWarnings("rawtypes")
+        private ByTarget(final @NotNull Map<Class, AbstractCast> castors, final @NotNull Class<?> source) {
+            this.castors = castors;
+            this.source = source;
+        }
+
+        @Override
+        protected Converter<?> computeValue(final Class<?> target) {
+            return resolve(castors, source, target);
+        }
+    }
+
+    // Converters only capture the casts and the target class, never the source class
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static @NotNull Converter<?> resolve(final @NotNull Map<Class, AbstractCast> castors, final @NotNull Class<?> source, final @NotNull Class<?> target) {
+        if (target == Object.class || target.isAssignableFrom(source)) {
+            return (unknown, mode) -> unknown;
+        }
+        if (target.isEnum()) {
+            return (unknown, mode) -> EnumCast.castToEnum(unknown, target);
+        }
+        AbstractCast<?> cast = castors.get(target);
+        if (cast == null) {
+            return (unknown, mode) -> {
+                throw new IllegalArgumentException("No code to cast to class " + target.getName());
+            };
+        }
+        if (cast.accepts(source)) {
+            return cast::cast;
+        }
+        // Find a cast chain, through String first as every object has a String form
+        AbstractCast<?> stringCast = castors.get(String.class);
+        if (stringCast != null && stringCast.accepts(source) && cast.accepts(String.class)) {
+            return (unknown, mode) -> cast.cast(stringCast.cast(unknown, mode), mode);
+        }
+        for (AbstractCast intermediate : castors.values()) {
+            Class<?> via = intermediate.getCastClass();
+            if (via != target && intermediate.accepts(source) && cast.accepts(via)) {
+                return (unknown, mode) -> cast.cast(intermediate.cast(unknown, mode), mode);
+            }
+        }
+        // No chain, let the cast fail with its own error
+        return cast::cast;
+    }
+
+    private <P> @Nullable P primitiveCast(final @NotNull Class<?> castClass, final @NotNull Class<P> primitiveCastClass) {
+        AbstractCast<?> cast = castors.get(castClass);
+        return primitiveCastClass.isInstance(cast) ? primitiveCastClass.cast(cast) : null;
+    }
+}
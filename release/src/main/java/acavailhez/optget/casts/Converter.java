@@ -0,0 +1,10 @@
+package acavailhez.optget.casts;
+
+import org.jetbrains.annotations.NotNull;
+
+// A cast from one source class to one target class
+// Resolved once for every (source, target) pair by CastRegistry.converter
+@FunctionalInterface
+public interface Converter<T> {
+    @NotNull T convert(@NotNull Object unknown, @NotNull CastMode mode);
+}
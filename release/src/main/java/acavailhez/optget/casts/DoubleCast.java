@@ -2,7 +2,25 @@ package acavailhez.optget.casts;
 
 import org.jetbrains.annotations.NotNull;
 
-public class DoubleCast extends AbstractNumberCast<Double> {
+public class DoubleCast extends AbstractNumberCast<Double> implements ToDoubleCast {
+
+    @Override
+    public double castToDouble(@NotNull final Object unknown, @NotNull final CastMode mode) {
+        if (unknown instanceof Double) {
+            return (Double) unknown;
+        }
+        if (mode != CastMode.STRICT && unknown instanceof Number) {
+            return ((Number) unknown).doubleValue();
+        }
+        if (mode != CastMode.STRICT && unknown instanceof String) {
+            try {
+                return parseDouble((String) unknown, mode);
+            } catch (final NumberFormatException e) {
+                throw new CastException(unknown, Double.class, e);
+            }
+        }
+        return cast(unknown, mode);
+    }
 
     @Override
     protected @NotNull Double valueFromNumber(Number number) {
@@ -10,8 +28,18 @@ public class DoubleCast extends AbstractNumberCast<Double> {
     }
 
     @Override
-    protected @NotNull Double valueFromString(String string) {
-        return Double.valueOf(string);
+    protected @NotNull Double valueFromString(String string, CastMode mode) {
+        return parseDouble(string, mode);
+    }
+
+    private static double parseDouble(String string, CastMode mode) {
+        if (mode == CastMode.UNSAFE_BEST_EFFORT) {
+            return NumberScanner.parseDouble(string);
+        }
+        if (mode == CastMode.CLEAN) {
+            return NumberScanner.parseDouble(string);
+        }
+        return Double.parseDouble(string);
     }
 
     @Override
@@ -1,18 +1,55 @@
 package acavailhez.optget.casts;
 
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
 public class EnumCast {
+
+    // Lookup tables of the enum constants, built once per enum class
+    private static final ClassValue<EnumIndex> INDEXES = new ClassValue<>() {
+        @Override
+        protected EnumIndex computeValue(final Class<?> enumClass) {
+            return new EnumIndex(enumClass);
+        }
+    };
+
     @SuppressWarnings("unchecked")
     public static <ENUM> ENUM castToEnum(Object unknown, Class<ENUM> enumClass) {
-        if (enumClass.isAssignableFrom(unknown.getClass())) {
+        if (enumClass.isInstance(unknown)) {
             return (ENUM) unknown;
         }
         // try to find the correct enum, ignore case
-        for (ENUM enumValue : enumClass.getEnumConstants()) {
-            if (enumValue.toString().equalsIgnoreCase(unknown.toString())) {
+        Object enumValue = INDEXES.get(enumClass).find(unknown.toString());
+        if (enumValue == null) {
+            throw new CastException(unknown, enumClass);
+        }
+        return (ENUM) enumValue;
+    }
+
+    // Constants by their toString(), exact match first then ignoring case
+    // The case insensitive map compares like equalsIgnoreCase and does not allocate a folded String
+    private static final class EnumIndex {
+
+        private final Map<String, Object> exact = new HashMap<>();
+        private final Map<String, Object> ignoreCase = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+        private EnumIndex(final @NotNull Class<?> enumClass) {
+            for (Object enumValue : enumClass.getEnumConstants()) {
+                exact.putIfAbsent(enumValue.toString(), enumValue);
+                ignoreCase.putIfAbsent(enumValue.toString(), enumValue);
+            }
+        }
+
+        private @Nullable Object find(final @NotNull String name) {
+            Object enumValue = exact.get(name);
+            if (enumValue != null) {
                 return enumValue;
             }
+            return ignoreCase.get(name);
         }
-        return (ENUM) unknown;
     }
-
 }
@@ -2,7 +2,25 @@ package acavailhez.optget.casts;
 
 import org.jetbrains.annotations.NotNull;
 
-public class FloatCast extends AbstractNumberCast<Float> {
+public class FloatCast extends AbstractNumberCast<Float> implements ToFloatCast {
+
+    @Override
+    public float castToFloat(@NotNull final Object unknown, @NotNull final CastMode mode) {
+        if (unknown instanceof Float) {
+            return (Float) unknown;
+        }
+        if (mode != CastMode.STRICT && unknown instanceof Number) {
+            return ((Number) unknown).floatValue();
+        }
+        if (mode != CastMode.STRICT && unknown instanceof String) {
+            try {
+                return parseFloat((String) unknown, mode);
+            } catch (final NumberFormatException e) {
+                throw new CastException(unknown, Float.class, e);
+            }
+        }
+        return cast(unknown, mode);
+    }
 
     @Override
     protected @NotNull Float valueFromNumber(Number number) {
@@ -10,8 +28,18 @@ public class FloatCast extends AbstractNumberCast<Float> {
     }
 
     @Override
-    protected @NotNull Float valueFromString(String string) {
-        return Float.valueOf(string);
+    protected @NotNull Float valueFromString(String string, CastMode mode) {
+        return parseFloat(string, mode);
+    }
+
+    private static float parseFloat(String string, CastMode mode) {
+        if (mode == CastMode.UNSAFE_BEST_EFFORT) {
+            return (float) NumberScanner.parseDouble(string);
+        }
+        if (mode == CastMode.CLEAN) {
+            return NumberScanner.parseFloat(string);
+        }
+        return Float.parseFloat(string);
     }
 
     @Override
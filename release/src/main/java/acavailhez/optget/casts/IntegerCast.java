@@ -2,7 +2,25 @@ package acavailhez.optget.casts;
 
 import org.jetbrains.annotations.NotNull;
 
-public class IntegerCast extends AbstractNumberCast<Integer> {
+public class IntegerCast extends AbstractNumberCast<Integer> implements ToIntCast {
+
+    @Override
+    public int castToInt(@NotNull final Object unknown, @NotNull final CastMode mode) {
+        if (unknown instanceof Integer) {
+            return (Integer) unknown;
+        }
+        if (mode != CastMode.STRICT && unknown instanceof Number) {
+            return ((Number) unknown).intValue();
+        }
+        if (mode != CastMode.STRICT && unknown instanceof String) {
+            try {
+                return parseInt((String) unknown, mode);
+            } catch (final NumberFormatException e) {
+                throw new CastException(unknown, Integer.class, e);
+            }
+        }
+        return cast(unknown, mode);
+    }
 
     @Override
     protected @NotNull Integer valueFromNumber(Number number) {
@@ -10,8 +28,18 @@ public class IntegerCast extends AbstractNumberCast<Integer> {
     }
 
     @Override
-    protected @NotNull Integer valueFromString(String string) {
-        return Integer.valueOf(string);
+    protected @NotNull Integer valueFromString(String string, CastMode mode) {
+        return parseInt(string, mode);
+    }
+
+    private static int parseInt(String string, CastMode mode) {
+        if (mode == CastMode.UNSAFE_BEST_EFFORT) {
+            return (int) NumberScanner.parseDouble(string);
+        }
+        if (mode == CastMode.CLEAN) {
+            return NumberScanner.parseInt(string);
+        }
+        return Integer.parseInt(string);
     }
 
     @Override
@@ -2,7 +2,25 @@ package acavailhez.optget.casts;
 
 import org.jetbrains.annotations.NotNull;
 
-public class LongCast extends AbstractNumberCast<Long> {
+public class LongCast extends AbstractNumberCast<Long> implements ToLongCast {
+
+    @Override
+    public long castToLong(@NotNull final Object unknown, @NotNull final CastMode mode) {
+        if (unknown instanceof Long) {
+            return (Long) unknown;
+        }
+        if (mode != CastMode.STRICT && unknown instanceof Number) {
+            return ((Number) unknown).longValue();
+        }
+        if (mode != CastMode.STRICT && unknown instanceof String) {
+            try {
+                return parseLong((String) unknown, mode);
+            } catch (final NumberFormatException e) {
+                throw new CastException(unknown, Long.class, e);
+            }
+        }
+        return cast(unknown, mode);
+    }
 
     @Override
     protected @NotNull Long valueFromNumber(Number number) {
@@ -10,8 +28,18 @@ public class LongCast extends AbstractNumberCast<Long> {
     }
 
     @Override
-    protected @NotNull Long valueFromString(String string) {
-        return Long.valueOf(string);
+    protected @NotNull Long valueFromString(String string, CastMode mode) {
+        return parseLong(string, mode);
+    }
+
+    private static long parseLong(String string, CastMode mode) {
+        if (mode == CastMode.UNSAFE_BEST_EFFORT) {
+            return (long) NumberScanner.parseDouble(string);
+        }
+        if (mode == CastMode.CLEAN) {
+            return NumberScanner.parseLong(string);
+        }
+        return Long.parseLong(string);
     }
 
     @Override
@@ -0,0 +1,203 @@
+package acavailhez.optget.casts;
+
+import org.jetbrains.annotations.NotNull;
+
+// Single pass parser for the CLEAN and UNSAFE_BEST_EFFORT modes
+// Behaves like removing every character but [0-9.e-] then calling Long.parseLong or Double.parseDouble,
+// without the regex and the intermediate String: junk characters are skipped and digits accumulated on the fly
+// Inputs the fast path cannot answer exactly (invalid numbers, overflows, long mantissas)
+// are cleaned into a String and handed to the JDK, which keeps its exact results and error messages
+final class NumberScanner {
+
+    // powers of ten that are exact doubles and floats
+    private static final double[] DOUBLE_POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private static final float[] FLOAT_POWERS_OF_TEN = {
+            1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+    };
+
+    // largest mantissas that are exact doubles and floats
+    private static final long MAX_EXACT_DOUBLE = 1L << 53;
+    private static final long MAX_EXACT_FLOAT = 1L << 24;
+
+    private NumberScanner() {
+    }
+
+    static long parseLong(final @NotNull String string) {
+        boolean negative = false;
+        boolean digits = false;
+        // accumulated negatively, like Long.parseLong, so Long.MIN_VALUE fits
+        long result = 0;
+        for (int i = 0; i < string.length(); i++) {
+            char c = string.charAt(i);
+            if (c >= '0' && c <= '9') {
+                int digit = c - '0';
+                if (result < Long.MIN_VALUE / 10) {
+                    return Long.parseLong(clean(string));
+                }
+                result *= 10;
+                if (result < Long.MIN_VALUE + digit) {
+                    return Long.parseLong(clean(string));
+                }
+                result -= digit;
+                digits = true;
+            } else if (c == '-') {
+                if (digits || negative) {
+                    return Long.parseLong(clean(string));
+                }
+                negative = true;
+            } else if (c == '.' || c == 'e') {
+                return Long.parseLong(clean(string));
+            }
+            // anything else is skipped
+        }
+        if (!digits || (!negative && result == Long.MIN_VALUE)) {
+            return Long.parseLong(clean(string));
+        }
+        return negative ? result : -result;
+    }
+
+    static int parseInt(final @NotNull String string) {
+        long value = parseLong(string);
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw outOfRange(string);
+        }
+        return (int) value;
+    }
+
+    static short parseShort(final @NotNull String string) {
+        long value = parseLong(string);
+        if (value < Short.MIN_VALUE || value > Short.MAX_VALUE) {
+            throw outOfRange(string);
+        }
+        return (short) value;
+    }
+
+    static byte parseByte(final @NotNull String string) {
+        long value = parseLong(string);
+        if (value < Byte.MIN_VALUE || value > Byte.MAX_VALUE) {
+            throw outOfRange(string);
+        }
+        return (byte) value;
+    }
+
+    static double parseDouble(final @NotNull String string) {
+        return parseDecimal(string, false);
+    }
+
+    static float parseFloat(final @NotNull String string) {
+        return (float) parseDecimal(string, true);
+    }
+
+    // The fast path only handles mantissas and powers of ten that are exact,
+    // then a single multiplication or division is correctly rounded (Clinger's fast path)
+    private static double parseDecimal(final @NotNull String string, final boolean asFloat) {
+        boolean negative = false;
+        long mantissa = 0;
+        int mantissaDigits = 0;
+        int significantDigits = 0;
+        int fractionDigits = 0;
+        boolean dot = false;
+        boolean exponent = false;
+        boolean exponentNegative = false;
+        int exponentDigits = 0;
+        int exponentValue = 0;
+        for (int i = 0; i < string.length(); i++) {
+            char c = string.charAt(i);
+            if (c >= '0' && c <= '9') {
+                int digit = c - '0';
+                if (exponent) {
+                    exponentDigits++;
+                    if (exponentValue < 10000) {
+                        exponentValue = exponentValue * 10 + digit;
+                    }
+                    continue;
+                }
+                mantissaDigits++;
+                if (mantissa == 0 && digit == 0) {
+                    // leading zero
+                    if (dot) {
+                        fractionDigits++;
+                    }
+                    continue;
+                }
+                if (significantDigits == 18) {
+                    return fallback(string, asFloat);
+                }
+                mantissa = mantissa * 10 + digit;
+                significantDigits++;
+                if (dot) {
+                    fractionDigits++;
+                }
+            } else if (c == '-') {
+                if (exponent) {
+                    if (exponentDigits > 0 || exponentNegative) {
+                        return fallback(string, asFloat);
+                    }
+                    exponentNegative = true;
+                } else {
+                    if (mantissaDigits > 0 || dot || negative) {
+                        return fallback(string, asFloat);
+                    }
+                    negative = true;
+                }
+            } else if (c == '.') {
+                if (dot || exponent) {
+                    return fallback(string, asFloat);
+                }
+                dot = true;
+            } else if (c == 'e') {
+                if (exponent || mantissaDigits == 0) {
+                    return fallback(string, asFloat);
+                }
+                exponent = true;
+            }
+            // anything else is skipped
+        }
+        if (mantissaDigits == 0 || (exponent && exponentDigits == 0)) {
+            return fallback(string, asFloat);
+        }
+        int power = (exponentNegative ? -exponentValue : exponentValue) - fractionDigits;
+        double value;
+        if (mantissa == 0) {
+            value = 0.0d;
+        } else if (asFloat) {
+            if (mantissa > MAX_EXACT_FLOAT || power < -10 || power > 10) {
+                return fallback(string, true);
+            }
+            value = power < 0
+                    ? (float) mantissa / FLOAT_POWERS_OF_TEN[-power]
+                    : (float) mantissa * FLOAT_POWERS_OF_TEN[power];
+        } else {
+            if (mantissa > MAX_EXACT_DOUBLE || power < -22 || power > 22) {
+                return fallback(string, false);
+            }
+            value = power < 0
+                    ? (double) mantissa / DOUBLE_POWERS_OF_TEN[-power]
+                    : (double) mantissa * DOUBLE_POWERS_OF_TEN[power];
+        }
+        return negative ? -value : value;
+    }
+
+    private static double fallback(final @NotNull String string, final boolean asFloat) {
+        return asFloat ? Float.parseFloat(clean(string)) : Double.parseDouble(clean(string));
+    }
+
+    // Same as string.replaceAll("[^0-9.e-]", "")
+    static @NotNull String clean(final @NotNull String string) {
+        StringBuilder cleaned = new StringBuilder(string.length());
+        for (int i = 0; i < string.length(); i++) {
+            char c = string.charAt(i);
+            if ((c >= '0' && c <= '9') || c == '.' || c == 'e' || c == '-') {
+                cleaned.append(c);
+            }
+        }
+        return cleaned.toString();
+    }
+
+    private static @NotNull NumberFormatException outOfRange(final @NotNull String string) {
+        return new NumberFormatException("Value out of range. Value:\"" + string + "\"");
+    }
+}
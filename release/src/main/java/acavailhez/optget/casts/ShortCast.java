@@ -10,8 +10,18 @@ public class ShortCast extends AbstractNumberCast<Short> {
     }
 
     @Override
-    protected @NotNull Short valueFromString(String string) {
-        return Short.valueOf(string);
+    protected @NotNull Short valueFromString(String string, CastMode mode) {
+        return parseShort(string, mode);
+    }
+
+    private static short parseShort(String string, CastMode mode) {
+        if (mode == CastMode.UNSAFE_BEST_EFFORT) {
+            return (short) (int) NumberScanner.parseDouble(string);
+        }
+        if (mode == CastMode.CLEAN) {
+            return NumberScanner.parseShort(string);
+        }
+        return Short.parseShort(string);
     }
 
     @Override
@@ -0,0 +1,13 @@
+package acavailhez.optget.casts;
+
+import org.jetbrains.annotations.NotNull;
+
+// A cast to boolean that does not box the result
+// Used by OptGet.getBoolean(key) when the Boolean cast of the registry implements it
+public interface ToBooleanCast {
+
+    boolean castToBoolean(@NotNull final Object unknown, @NotNull final CastMode mode);
+
+    // Same contract as AbstractCast.accepts
+    boolean accepts(@NotNull final Class<?> sourceClass);
+}
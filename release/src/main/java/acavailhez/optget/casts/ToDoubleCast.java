@@ -0,0 +1,13 @@
+package acavailhez.optget.casts;
+
+import org.jetbrains.annotations.NotNull;
+
+// A cast to double that does not box the result
+// Used by OptGet.getDouble(key) when the Double cast of the registry implements it
+public interface ToDoubleCast {
+
+    double castToDouble(@NotNull final Object unknown, @NotNull final CastMode mode);
+
+    // Same contract as AbstractCast.accepts
+    boolean accepts(@NotNull final Class<?> sourceClass);
+}
@@ -0,0 +1,13 @@
+package acavailhez.optget.casts;
+
+import org.jetbrains.annotations.NotNull;
+
+// A cast to float that does not box the result
+// Used by OptGet.getFloat(key) when the Float cast of the registry implements it
+public interface ToFloatCast {
+
+    float castToFloat(@NotNull final Object unknown, @NotNull final CastMode mode);
+
+    // Same contract as AbstractCast.accepts
+    boolean accepts(@NotNull final Class<?> sourceClass);
+}
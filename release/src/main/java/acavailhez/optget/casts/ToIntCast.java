@@ -0,0 +1,13 @@
+package acavailhez.optget.casts;
+
+import org.jetbrains.annotations.NotNull;
+
+// A cast to int that does not box the result
+// Used by OptGet.getInt(key) when the Integer cast of the registry implements it
+public interface ToIntCast {
+
+    int castToInt(@NotNull final Object unknown, @NotNull final CastMode mode);
+
+    // Same contract as AbstractCast.accepts
+    boolean accepts(@NotNull final Class<?> sourceClass);
+}
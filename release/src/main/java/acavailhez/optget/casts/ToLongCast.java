@@ -0,0 +1,13 @@
+package acavailhez.optget.casts;
+
+import org.jetbrains.annotations.NotNull;
+
+// A cast to long that does not box the result
+// Used by OptGet.getLong(key) when the Long cast of the registry implements it
+public interface ToLongCast {
+
+    long castToLong(@NotNull final Object unknown, @NotNull final CastMode mode);
+
+    // Same contract as AbstractCast.accepts
+    boolean accepts(@NotNull final Class<?> sourceClass);
+}
@@ -0,0 +1,60 @@
+package acavailhez.optget.events;
+
+import acavailhez.optget.casts.CastMode;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+// A cast of an OptGet that threw a CastException
+@Name("acavailhez.optget.CastFailure")
+@Label("OptGet Cast Failure")
+@Category("OptGet")
+@Description("Cast of a value read from an OptGet that threw a CastException")
+public final class CastFailureEvent extends Event {
+
+    @Label("Path")
+    @Description("Path the value was read from, absent when the cast is not tied to a lookup")
+    String path;
+
+    @Label("Backend")
+    Class<?> backend;
+
+    @Label("Source Type")
+    Class<?> sourceType;
+
+    @Label("Target Type")
+    Class<?> targetType;
+
+    @Label("Cast Mode")
+    String castMode;
+
+    @Label("Message")
+    String message;
+
+    private CastFailureEvent() {
+    }
+
+    // Records a failed cast, the event is only created here: a cast that succeeds costs nothing,
+    // even while a recording has the event enabled
+    // It is an instant event, the time spent in the failed cast is not measured
+    public static void failed(final @Nullable Object path, final @NotNull Class<?> backend, final @NotNull Class<?> sourceType,
+                              final @NotNull Class<?> targetType, final @NotNull CastMode castMode, final @NotNull Exception e) {
+        if (!EventTypes.CAST_FAILURE.isEnabled()) {
+            return;
+        }
+        CastFailureEvent event = new CastFailureEvent();
+        if (event.shouldCommit()) {
+            event.path = path == null ? null : path.toString();
+            event.backend = backend;
+            event.sourceType = sourceType;
+            event.targetType = targetType;
+            event.castMode = castMode.name();
+            event.message = e.getMessage();
+            event.commit();
+        }
+    }
+}
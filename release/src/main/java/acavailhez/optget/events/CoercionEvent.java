@@ -0,0 +1,65 @@
+package acavailhez.optget.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+// A conversion that is expensive by nature and took longer than the threshold:
+// parsing a String into another type, or reading a property of a wrapped object by reflection
+// The threshold is set in the recording settings, eg: jfr configure acavailhez.optget.Coercion#threshold=0ms
+@Name("acavailhez.optget.Coercion")
+@Label("OptGet Expensive Coercion")
+@Category("OptGet")
+@Description("String parsed into another type, or property read by reflection, that took longer than the threshold")
+@Threshold("10 us")
+public final class CoercionEvent extends Event {
+
+    public static final String PARSE = "parse";
+    public static final String REFLECTION = "reflection";
+
+    @Label("Path")
+    String path;
+
+    @Label("Backend")
+    Class<?> backend;
+
+    @Label("Source Type")
+    Class<?> sourceType;
+
+    @Label("Target Type")
+    Class<?> targetType;
+
+    @Label("Kind")
+    String kind;
+
+    private CoercionEvent() {
+    }
+
+    // A started event, null when no recording has it enabled
+    public static @Nullable CoercionEvent start() {
+        if (!EventTypes.COERCION.isEnabled()) {
+            return null;
+        }
+        CoercionEvent event = new CoercionEvent();
+        event.begin();
+        return event;
+    }
+
+    public void finish(final @Nullable Object path, final @NotNull Class<?> backend, final @NotNull Class<?> sourceType,
+                       final @Nullable Class<?> targetType, final @NotNull String kind) {
+        end();
+        if (shouldCommit()) {
+            this.path = path == null ? null : path.toString();
+            this.backend = backend;
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+            this.kind = kind;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package acavailhez.optget.events;
+
+import jdk.jfr.EventType;
+
+// Looked up once, outside of the event classes so that they are fully initialized first
+// isEnabled() is true only while a recording has the event enabled
+final class EventTypes {
+
+    static final EventType LOOKUP = EventType.getEventType(LookupEvent.class);
+    static final EventType CAST_FAILURE = EventType.getEventType(CastFailureEvent.class);
+    static final EventType COERCION = EventType.getEventType(CoercionEvent.class);
+
+    private EventTypes() {
+    }
+}
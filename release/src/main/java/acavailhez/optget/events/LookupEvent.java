@@ -0,0 +1,53 @@
+package acavailhez.optget.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+// A lookup of an OptGet that took longer than the threshold
+// The threshold is set in the recording settings, eg: jfr configure acavailhez.optget.Lookup#threshold=100us
+@Name("acavailhez.optget.Lookup")
+@Label("OptGet Slow Lookup")
+@Category("OptGet")
+@Description("Lookup of a path in an OptGet that took longer than the threshold")
+@Threshold("1 ms")
+public final class LookupEvent extends Event {
+
+    @Label("Path")
+    String path;
+
+    @Label("Backend")
+    @Description("Class of the OptGet the path was looked up in")
+    Class<?> backend;
+
+    @Label("Found")
+    boolean found;
+
+    private LookupEvent() {
+    }
+
+    // A started event, null when no recording has it enabled
+    public static @Nullable LookupEvent start() {
+        if (!EventTypes.LOOKUP.isEnabled()) {
+            return null;
+        }
+        LookupEvent event = new LookupEvent();
+        event.begin();
+        return event;
+    }
+
+    public void finish(final @NotNull Object path, final @NotNull Class<?> backend, final boolean found) {
+        end();
+        if (shouldCommit()) {
+            this.path = path.toString();
+            this.backend = backend;
+            this.found = found;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package acavailhez.optget.json;
+
+// Thrown when the part of a JSON document that is read is not valid JSON
+public class JsonException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long position;
+
+    JsonException(final long position, final String message) {
+        super("Invalid JSON at position " + position + ": " + message);
+        this.position = position;
+    }
+
+    public long getPosition() {
+        return position;
+    }
+}
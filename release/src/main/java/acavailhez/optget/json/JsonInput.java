@@ -0,0 +1,79 @@
+package acavailhez.optget.json;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.charset.StandardCharsets;
+
+// Random access to the raw characters of a JSON document
+// Positions are longs so that inputs larger than 2GB can be addressed
+abstract class JsonInput {
+
+    abstract long length();
+
+    // The character at a position, as an unsigned byte for UTF-8 inputs
+    abstract int at(final long position);
+
+    // The text between two positions, decoded
+    abstract @NotNull String slice(final long from, final long to);
+
+    // The position of the bracket closing the container opened at a position, -1 when it is not known upfront
+    long closing(final long open) {
+        return -1;
+    }
+
+    static JsonInput of(final @NotNull String json) {
+        return new Chars(json);
+    }
+
+    static JsonInput of(final byte @NotNull [] json) {
+        return new Bytes(json);
+    }
+
+    private static final class Chars extends JsonInput {
+
+        private final String json;
+
+        private Chars(final String json) {
+            this.json = json;
+        }
+
+        @Override
+        long length() {
+            return json.length();
+        }
+
+        @Override
+        int at(final long position) {
+            return json.charAt((int) position);
+        }
+
+        @Override
+        @NotNull String slice(final long from, final long to) {
+            return json.substring((int) from, (int) to);
+        }
+    }
+
+    private static final class Bytes extends JsonInput {
+
+        private final byte[] json;
+
+        private Bytes(final byte[] json) {
+            this.json = json;
+        }
+
+        @Override
+        long length() {
+            return json.length;
+        }
+
+        @Override
+        int at(final long position) {
+            return json[(int) position] & 0xFF;
+        }
+
+        @Override
+        @NotNull String slice(final long from, final long to) {
+            return new String(json, (int) from, (int) (to - from), StandardCharsets.UTF_8);
+        }
+    }
+}
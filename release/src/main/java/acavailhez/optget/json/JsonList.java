@@ -0,0 +1,35 @@
+package acavailhez.optget.json;
+
+import acavailhez.optget.views.LazyList;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+// A read-only JSON array, elements are scanned up to the last one read
+final class JsonList extends AbstractList<Object> implements RandomAccess, LazyList {
+
+    private final JsonMembers members;
+
+    JsonList(final @NotNull JsonInput in, final long open) {
+        this.members = new JsonMembers(in, open);
+    }
+
+    @Override
+    public Object get(final int index) {
+        if (index < 0 || !members.has(index)) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + members.size());
+        }
+        return members.value(index);
+    }
+
+    @Override
+    public boolean hasIndex(final int index) {
+        return members.has(index);
+    }
+
+    @Override
+    public int size() {
+        return members.size();
+    }
+}
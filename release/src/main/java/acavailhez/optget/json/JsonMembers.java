@@ -0,0 +1,132 @@
+package acavailhez.optget.json;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+// The members of a JSON object or array, scanned only as far as they are read
+// Positions of what was scanned are kept so that nothing is scanned twice
+final class JsonMembers {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final JsonInput in;
+    private final boolean object;
+    private final char close;
+
+    // positions of the opening quote of each key, objects only
+    private long[] keys;
+    // positions of the first character of each value
+    private long[] values;
+    // objects and arrays already wrapped, so that what they scanned is kept too
+    private Object[] children;
+    private int count = 0;
+    // position to resume scanning from, right after the opening bracket or a comma
+    private long next;
+    private boolean complete = false;
+
+    JsonMembers(final @NotNull JsonInput in, final long open) {
+        this.in = in;
+        this.object = in.at(open) == '{';
+        this.close = object ? '}' : ']';
+        this.next = open + 1;
+        this.keys = object ? new long[INITIAL_CAPACITY] : null;
+        this.values = new long[INITIAL_CAPACITY];
+        this.children = new Object[INITIAL_CAPACITY];
+    }
+
+    synchronized int size() {
+        while (scanNext()) {
+        }
+        return count;
+    }
+
+    // Index of the first member with that key, -1 if there is none
+    synchronized int find(final @NotNull String key) {
+        for (int i = 0; i < count; i++) {
+            if (JsonScanner.stringEquals(in, keys[i], key)) {
+                return i;
+            }
+        }
+        while (scanNext()) {
+            if (JsonScanner.stringEquals(in, keys[count - 1], key)) {
+                return count - 1;
+            }
+        }
+        return -1;
+    }
+
+    // Whether there is a member at that index, scanning up to it
+    synchronized boolean has(final int index) {
+        while (count <= index && scanNext()) {
+        }
+        return index < count;
+    }
+
+    synchronized @NotNull String key(final int index) {
+        return JsonScanner.readString(in, keys[index]);
+    }
+
+    synchronized @Nullable Object value(final int index) {
+        long position = values[index];
+        int c = in.at(position);
+        if (c != '{' && c != '[') {
+            return JsonScanner.readScalar(in, position);
+        }
+        Object child = children[index];
+        if (child == null) {
+            child = c == '{' ? new JsonOptGet(in, position) : new JsonList(in, position);
+            children[index] = child;
+        }
+        return child;
+    }
+
+    private boolean scanNext() {
+        if (complete) {
+            return false;
+        }
+        long position = JsonScanner.skipWhitespace(in, next);
+        if (count == 0 && JsonScanner.peek(in, position) == close) {
+            complete = true;
+            return false;
+        }
+        long key = -1;
+        if (object) {
+            if (JsonScanner.peek(in, position) != '"') {
+                throw JsonScanner.unexpected(in, position, "expected a key");
+            }
+            key = position;
+            position = JsonScanner.skipWhitespace(in, JsonScanner.skipString(in, position));
+            position = JsonScanner.skipWhitespace(in, JsonScanner.expect(in, position, ':'));
+        }
+        long value = position;
+        position = JsonScanner.skipWhitespace(in, JsonScanner.skipValue(in, position));
+        int c = JsonScanner.peek(in, position);
+        if (c == ',') {
+            next = position + 1;
+        } else if (c == close) {
+            complete = true;
+        } else {
+            throw JsonScanner.unexpected(in, position, "expected ',' or '" + close + "'");
+        }
+        append(key, value);
+        return true;
+    }
+
+    private void append(final long key, final long value) {
+        if (count == values.length) {
+            int capacity = count * 2;
+            if (object) {
+                keys = Arrays.copyOf(keys, capacity);
+            }
+            values = Arrays.copyOf(values, capacity);
+            children = Arrays.copyOf(children, capacity);
+        }
+        if (object) {
+            keys[count] = key;
+        }
+        values[count] = value;
+        count++;
+    }
+}
@@ -0,0 +1,152 @@
+package acavailhez.optget.json;
+
+import acavailhez.optget.OptGet;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.IntFunction;
+
+// Read-only OptGet over a raw JSON object, without parsing it upfront
+// Members are scanned only up to the key that is asked for, the values skipped on the way are not decoded
+// Nested objects are JsonOptGet and arrays are lists, both as lazy as this one
+// Numbers are Long when they are integers that fit, Double otherwise
+// A dotted String key is first looked up as a key, which scans all the keys of the object once,
+// an OptPath goes straight down the path
+public class JsonOptGet extends OptGet {
+
+    private final JsonMembers members;
+
+    public JsonOptGet(final @NotNull String json) {
+        this(JsonInput.of(json));
+    }
+
+    // json encoded in UTF-8
+    public JsonOptGet(final byte @NotNull [] json) {
+        this(JsonInput.of(json));
+    }
+
+    // Maps a UTF-8 JSON file in memory instead of loading it, an index of its large objects and arrays
+    // is built on the way so that lookups jump over them
+    public static @NotNull JsonOptGet map(final @NotNull Path path) throws IOException {
+        return new JsonOptGet(MappedJsonInput.map(path));
+    }
+
+    private JsonOptGet(final @NotNull JsonInput in) {
+        this(in, root(in));
+    }
+
+    JsonOptGet(final @NotNull JsonInput in, final long open) {
+        this.members = new JsonMembers(in, open);
+    }
+
+    private static long root(final @NotNull JsonInput in) {
+        long position = JsonScanner.skipWhitespace(in, 0);
+        if (JsonScanner.peek(in, position) != '{') {
+            throw JsonScanner.unexpected(in, position, "expected an object");
+        }
+        return position;
+    }
+
+    @Override
+    protected @Nullable Object optToOverride(@NotNull Object key) {
+        int index = members.find(key.toString());
+        return index < 0 ? null : members.value(index);
+    }
+
+    @Override
+    public @Nullable Object put(Object key, Object value) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Object remove(Object key) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public @NotNull Set<Object> keySet() {
+        int size = members.size();
+        Set<Object> keys = new LinkedHashSet<>();
+        for (int i = 0; i < size; i++) {
+            keys.add(members.key(i));
+        }
+        return Collections.unmodifiableSet(keys);
+    }
+
+    // Values and entries walk the members by index, a lookup by key for each of them would scan the object again
+    @Override
+    public @NotNull Collection<Object> values() {
+        return new AbstractCollection<>() {
+            @Override
+            public @NotNull Iterator<Object> iterator() {
+                return members(members::value);
+            }
+
+            @Override
+            public int size() {
+                return members.size();
+            }
+        };
+    }
+
+    @Override
+    public @NotNull Set<Entry<Object, Object>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public @NotNull Iterator<Entry<Object, Object>> iterator() {
+                return members(index -> new AbstractMap.SimpleImmutableEntry<>(members.key(index), members.value(index)));
+            }
+
+            @Override
+            public int size() {
+                return members.size();
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        return members.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return !members.has(0);
+    }
+
+    @Override
+    public boolean containsKey(final @NotNull Object key) {
+        return members.find(key.toString()) >= 0;
+    }
+
+    // Each member in turn, scanned only as the iteration reaches it
+    private <T> @NotNull Iterator<T> members(final @NotNull IntFunction<T> member) {
+        return new Iterator<>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return members.has(index);
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return member.apply(index++);
+            }
+        };
+    }
+}
@@ -0,0 +1,261 @@
+package acavailhez.optget.json;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+// Reads JSON values in place, positions point to the first character of a value
+// Skipped values are only checked for structure, not fully validated
+final class JsonScanner {
+
+    private JsonScanner() {
+    }
+
+    // The character at a position, or -1 past the end of the input
+    static int peek(final @NotNull JsonInput in, final long position) {
+        return position < in.length() ? in.at(position) : -1;
+    }
+
+    static long skipWhitespace(final @NotNull JsonInput in, long position) {
+        long length = in.length();
+        while (position < length) {
+            int c = in.at(position);
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+                return position;
+            }
+            position++;
+        }
+        return position;
+    }
+
+    static long expect(final @NotNull JsonInput in, final long position, final char expected) {
+        if (peek(in, position) != expected) {
+            throw unexpected(in, position, "expected '" + expected + "'");
+        }
+        return position + 1;
+    }
+
+    // The position right after the value
+    static long skipValue(final @NotNull JsonInput in, final long position) {
+        int c = peek(in, position);
+        switch (c) {
+            case '"':
+                return skipString(in, position);
+            case '{':
+            case '[':
+                long close = in.closing(position);
+                return close < 0 ? skipContainer(in, position) : close + 1;
+            case 't':
+                return skipLiteral(in, position, "true");
+            case 'f':
+                return skipLiteral(in, position, "false");
+            case 'n':
+                return skipLiteral(in, position, "null");
+            default:
+                return skipNumber(in, position);
+        }
+    }
+
+    // The position right after the closing quote
+    static long skipString(final @NotNull JsonInput in, long position) {
+        long length = in.length();
+        position++;
+        while (position < length) {
+            int c = in.at(position);
+            if (c == '"') {
+                return position + 1;
+            }
+            position += c == '\\' ? 2 : 1;
+        }
+        throw new JsonException(length, "unterminated string");
+    }
+
+    // The position right after the closing bracket, strings are skipped so that their brackets are ignored
+    static long skipContainer(final @NotNull JsonInput in, long position) {
+        long length = in.length();
+        int depth = 0;
+        while (position < length) {
+            int c = in.at(position);
+            if (c == '"') {
+                position = skipString(in, position);
+                continue;
+            }
+            if (c == '{' || c == '[') {
+                depth++;
+            } else if (c == '}' || c == ']') {
+                if (--depth == 0) {
+                    return position + 1;
+                }
+            }
+            position++;
+        }
+        throw new JsonException(length, "unterminated container");
+    }
+
+    static long skipNumber(final @NotNull JsonInput in, final long position) {
+        long length = in.length();
+        long end = position;
+        while (end < length && isNumberChar(in.at(end))) {
+            end++;
+        }
+        if (end == position) {
+            throw unexpected(in, position, "expected a value");
+        }
+        return end;
+    }
+
+    private static long skipLiteral(final @NotNull JsonInput in, final long position, final @NotNull String literal) {
+        for (int i = 0; i < literal.length(); i++) {
+            if (peek(in, position + i) != literal.charAt(i)) {
+                throw unexpected(in, position, "expected " + literal);
+            }
+        }
+        return position + literal.length();
+    }
+
+    // A scalar value decoded, containers are left to the caller
+    static @Nullable Object readScalar(final @NotNull JsonInput in, final long position) {
+        int c = peek(in, position);
+        switch (c) {
+            case '"':
+                return readString(in, position);
+            case 't':
+                skipLiteral(in, position, "true");
+                return Boolean.TRUE;
+            case 'f':
+                skipLiteral(in, position, "false");
+                return Boolean.FALSE;
+            case 'n':
+                skipLiteral(in, position, "null");
+                return null;
+            default:
+                return readNumber(in, position);
+        }
+    }
+
+    static @NotNull String readString(final @NotNull JsonInput in, final long position) {
+        long length = in.length();
+        long from = position + 1;
+        long current = from;
+        StringBuilder builder = null;
+        while (current < length) {
+            int c = in.at(current);
+            if (c == '"') {
+                if (builder == null) {
+                    return in.slice(from, current);
+                }
+                return builder.append(in.slice(from, current)).toString();
+            }
+            if (c != '\\') {
+                current++;
+                continue;
+            }
+            if (builder == null) {
+                builder = new StringBuilder();
+            }
+            builder.append(in.slice(from, current));
+            int escaped = peek(in, current + 1);
+            switch (escaped) {
+                case '"':
+                case '\\':
+                case '/':
+                    builder.append((char) escaped);
+                    break;
+                case 'b':
+                    builder.append('\b');
+                    break;
+                case 'f':
+                    builder.append('\f');
+                    break;
+                case 'n':
+                    builder.append('\n');
+                    break;
+                case 'r':
+                    builder.append('\r');
+                    break;
+                case 't':
+                    builder.append('\t');
+                    break;
+                case 'u':
+                    builder.append(readUnicode(in, current + 2));
+                    current += 4;
+                    break;
+                default:
+                    throw unexpected(in, current, "invalid escape");
+            }
+            current += 2;
+            from = current;
+        }
+        throw new JsonException(length, "unterminated string");
+    }
+
+    private static char readUnicode(final @NotNull JsonInput in, final long position) {
+        int value = 0;
+        for (int i = 0; i < 4; i++) {
+            int digit = Character.digit(peek(in, position + i), 16);
+            if (digit < 0) {
+                throw unexpected(in, position, "invalid unicode escape");
+            }
+            value = (value << 4) | digit;
+        }
+        return (char) value;
+    }
+
+    // Compares a string value to a key without decoding it, unless it has escapes or the key is not ASCII
+    static boolean stringEquals(final @NotNull JsonInput in, final long position, final @NotNull String key) {
+        long current = position + 1;
+        for (int i = 0; i < key.length(); i++, current++) {
+            char expected = key.charAt(i);
+            int c = in.at(current);
+            if (c == '"') {
+                // the key is longer
+                return false;
+            }
+            if (c == '\\' || expected >= 0x80) {
+                return readString(in, position).equals(key);
+            }
+            if (c != expected) {
+                return false;
+            }
+        }
+        return in.at(current) == '"';
+    }
+
+    // Integers that fit are read in place into a Long, anything else is a Double
+    static @NotNull Object readNumber(final @NotNull JsonInput in, final long position) {
+        long end = skipNumber(in, position);
+        long current = position;
+        boolean negative = in.at(current) == '-';
+        if (negative) {
+            current++;
+        }
+        boolean integral = current < end;
+        long value = 0;
+        for (; current < end; current++) {
+            int digit = in.at(current) - '0';
+            if (digit < 0 || digit > 9 || value > (Long.MAX_VALUE - digit) / 10) {
+                integral = false;
+                break;
+            }
+            value = value * 10 + digit;
+        }
+        if (integral) {
+            return negative ? -value : value;
+        }
+        try {
+            return Double.parseDouble(in.slice(position, end));
+        } catch (NumberFormatException e) {
+            throw unexpected(in, position, "invalid number");
+        }
+    }
+
+    static JsonException unexpected(final @NotNull JsonInput in, final long position, final @NotNull String message) {
+        if (position >= in.length()) {
+            return new JsonException(position, message + ", found the end of the input");
+        }
+        return new JsonException(position, message + ", found '" + (char) in.at(position) + "'");
+    }
+
+    private static boolean isNumberChar(final int c) {
+        return (c >= '0' && c <= '9') || c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E';
+    }
+}
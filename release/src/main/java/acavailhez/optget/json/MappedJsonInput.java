@@ -0,0 +1,69 @@
+package acavailhez.optget.json;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// A UTF-8 JSON file mapped in memory, read through windows of 1GB as a single buffer is limited to 2GB
+// The structural index is built when the file is mapped, so that large containers are skipped without being scanned
+final class MappedJsonInput extends JsonInput {
+
+    private static final int WINDOW_BITS = 30;
+    private static final long WINDOW_MASK = (1L << WINDOW_BITS) - 1;
+
+    private final MappedByteBuffer[] windows;
+    private final long length;
+    private final StructuralIndex index = new StructuralIndex();
+
+    private MappedJsonInput(final @NotNull FileChannel channel) throws IOException {
+        this.length = channel.size();
+        this.windows = new MappedByteBuffer[(int) ((length + WINDOW_MASK) >>> WINDOW_BITS)];
+        for (int i = 0; i < windows.length; i++) {
+            long offset = (long) i << WINDOW_BITS;
+            windows[i] = channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(length - offset, 1L << WINDOW_BITS));
+            index.scan(windows[i], offset);
+        }
+    }
+
+    static @NotNull MappedJsonInput map(final @NotNull Path path) throws IOException {
+        // the mapping stays valid once the channel is closed
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new MappedJsonInput(channel);
+        }
+    }
+
+    @Override
+    long length() {
+        return length;
+    }
+
+    @Override
+    int at(final long position) {
+        return windows[(int) (position >>> WINDOW_BITS)].get((int) (position & WINDOW_MASK)) & 0xFF;
+    }
+
+    @Override
+    @NotNull String slice(final long from, final long to) {
+        byte[] bytes = new byte[Math.toIntExact(to - from)];
+        int copied = 0;
+        while (copied < bytes.length) {
+            long position = from + copied;
+            MappedByteBuffer window = windows[(int) (position >>> WINDOW_BITS)];
+            int start = (int) (position & WINDOW_MASK);
+            int count = Math.min(bytes.length - copied, window.limit() - start);
+            window.get(start, bytes, copied, count);
+            copied += count;
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    long closing(final long open) {
+        return index.closing(open);
+    }
+}
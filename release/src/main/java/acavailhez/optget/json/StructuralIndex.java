@@ -0,0 +1,122 @@
+package acavailhez.optget.json;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+// Positions of the opening and closing brackets of the large containers of a document
+// Containers smaller than MIN_SPAN are not kept, scanning them is about as fast as a lookup
+final class StructuralIndex {
+
+    static final long MIN_SPAN = 256;
+
+    private static final long ONES = 0x0101010101010101L;
+    private static final long HIGHS = 0x8080808080808080L;
+    // '"', '\', and '{' '}' once brackets are folded onto braces: '[' | 0x20 == '{' and ']' | 0x20 == '}'
+    private static final long QUOTES = '"' * ONES;
+    private static final long BACKSLASHES = '\\' * ONES;
+    private static final long OPENS = '{' * ONES;
+    private static final long CLOSES = '}' * ONES;
+    private static final long FOLD = 0x20 * ONES;
+
+    // sorted, as containers are added in the order they are opened
+    private long[] opens = new long[64];
+    private long[] closes = new long[64];
+    private int count = 0;
+
+    // containers being scanned, as slots in opens/closes
+    private int[] stack = new int[64];
+    private int depth = 0;
+    private boolean inString = false;
+    private boolean escaped = false;
+
+    // The closing position for an opening one, -1 when it was not indexed
+    long closing(final long open) {
+        int slot = Arrays.binarySearch(opens, 0, count, open);
+        return slot < 0 ? -1 : closes[slot];
+    }
+
+    int size() {
+        return count;
+    }
+
+    // Feeds the next bytes of the document, 8 at a time: words without any structural character are skipped whole
+    // offset is the position of the first byte in the document
+    void scan(final ByteBuffer bytes, final long offset) {
+        int limit = bytes.limit();
+        int i = 0;
+        for (; i + 8 <= limit; i += 8) {
+            long word = bytes.getLong(i);
+            boolean candidate = inString
+                    ? hasByte(word, QUOTES) || hasByte(word, BACKSLASHES)
+                    : hasByte(word, QUOTES) || hasByte(word | FOLD, OPENS) || hasByte(word | FOLD, CLOSES);
+            if (candidate || escaped) {
+                for (int j = i; j < i + 8; j++) {
+                    scan(bytes.get(j), offset + j);
+                }
+            }
+        }
+        for (; i < limit; i++) {
+            scan(bytes.get(i), offset + i);
+        }
+    }
+
+    private void scan(final byte c, final long position) {
+        if (inString) {
+            if (escaped) {
+                escaped = false;
+            } else if (c == '\\') {
+                escaped = true;
+            } else if (c == '"') {
+                inString = false;
+            }
+            return;
+        }
+        switch (c) {
+            case '"':
+                inString = true;
+                break;
+            case '{':
+            case '[':
+                open(position);
+                break;
+            case '}':
+            case ']':
+                close(position);
+                break;
+            default:
+        }
+    }
+
+    private void open(final long position) {
+        if (count == opens.length) {
+            opens = Arrays.copyOf(opens, count * 2);
+            closes = Arrays.copyOf(closes, count * 2);
+        }
+        opens[count] = position;
+        closes[count] = -1;
+        if (depth == stack.length) {
+            stack = Arrays.copyOf(stack, depth * 2);
+        }
+        stack[depth++] = count++;
+    }
+
+    private void close(final long position) {
+        if (depth == 0) {
+            // unbalanced, left for the scanner to report
+            return;
+        }
+        int slot = stack[--depth];
+        if (position - opens[slot] < MIN_SPAN) {
+            // the containers inside are smaller still and were dropped already
+            count = slot;
+        } else {
+            closes[slot] = position;
+        }
+    }
+
+    // Whether any byte of the word equals the byte repeated in pattern
+    private static boolean hasByte(final long word, final long pattern) {
+        long x = word ^ pattern;
+        return ((x - ONES) & ~x & HIGHS) != 0;
+    }
+}
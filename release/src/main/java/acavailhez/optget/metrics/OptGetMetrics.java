@@ -0,0 +1,156 @@
+package acavailhez.optget.metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+// Counters for the lookups and casts of the OptGet it is set on, see OptGet.setMetrics
+// One instance can be shared by many OptGet and threads: counters are striped LongAdders,
+// and the latency of one lookup in sampleEvery is recorded in a histogram of fixed buckets
+public final class OptGetMetrics {
+
+    public static final int DEFAULT_SAMPLE_EVERY = 64;
+
+    // bucket i holds latencies below 2^i nanoseconds, the last one everything above
+    static final int BUCKETS = 40;
+
+    private final int sampleEvery;
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder nullValues = new LongAdder();
+    private final LongAdder castExceptions = new LongAdder();
+    private final ConcurrentHashMap<Class<?>, ConcurrentHashMap<Class<?>, Counts>> casts = new ConcurrentHashMap<>();
+    private final LongAdder[] latencies = new LongAdder[BUCKETS];
+
+    public OptGetMetrics() {
+        this(DEFAULT_SAMPLE_EVERY);
+    }
+
+    // sampleEvery 1 records the latency of every lookup
+    public OptGetMetrics(final int sampleEvery) {
+        if (sampleEvery < 1) {
+            throw new IllegalArgumentException("sampleEvery must be at least 1, got " + sampleEvery);
+        }
+        this.sampleEvery = sampleEvery;
+        for (int i = 0; i < BUCKETS; i++) {
+            latencies[i] = new LongAdder();
+        }
+    }
+
+    // Start of a lookup, the returned value goes back to endLookup
+    // 0 when this lookup is not sampled
+    public long startLookup() {
+        if (sampleEvery > 1 && ThreadLocalRandom.current().nextInt(sampleEvery) != 0) {
+            return 0;
+        }
+        return System.nanoTime();
+    }
+
+    public void endLookup(final long start, final boolean missed) {
+        lookups.increment();
+        if (missed) {
+            misses.increment();
+        }
+        if (start != 0) {
+            latencies[bucket(System.nanoTime() - start)].increment();
+        }
+    }
+
+    public void nullValue() {
+        nullValues.increment();
+    }
+
+    public void cast(final @NotNull Class<?> source, final @NotNull Class<?> target) {
+        counts(source, target).casts.increment();
+    }
+
+    public void castFailed(final @NotNull Class<?> source, final @NotNull Class<?> target) {
+        counts(source, target).failures.increment();
+        castExceptions.increment();
+    }
+
+    public @NotNull Snapshot snapshot() {
+        Map<CastPair, Long> castCounts = new HashMap<>();
+        Map<CastPair, Long> castFailures = new HashMap<>();
+        casts.forEach((source, targets) -> targets.forEach((target, counts) -> {
+            CastPair pair = new CastPair(source, target);
+            castCounts.put(pair, counts.casts.sum());
+            long failures = counts.failures.sum();
+            if (failures != 0) {
+                castFailures.put(pair, failures);
+            }
+        }));
+        long[] buckets = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = latencies[i].sum();
+        }
+        return new Snapshot(lookups.sum(), misses.sum(), nullValues.sum(), castExceptions.sum(),
+                Map.copyOf(castCounts), Map.copyOf(castFailures), buckets);
+    }
+
+    private @NotNull Counts counts(final @NotNull Class<?> source, final @NotNull Class<?> target) {
+        // get first, computeIfAbsent is only needed the first time a pair is seen
+        ConcurrentHashMap<Class<?>, Counts> targets = casts.get(source);
+        if (targets == null) {
+            targets = casts.computeIfAbsent(source, s -> new ConcurrentHashMap<>());
+        }
+        Counts counts = targets.get(target);
+        if (counts == null) {
+            counts = targets.computeIfAbsent(target, t -> new Counts());
+        }
+        return counts;
+    }
+
+    static int bucket(final long nanos) {
+        return Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(Math.max(0, nanos)));
+    }
+
+    private static final class Counts {
+        private final LongAdder casts = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+    }
+
+    public record CastPair(@NotNull Class<?> source, @NotNull Class<?> target) {
+        @Override
+        public String toString() {
+            return source.getSimpleName() + "->" + target.getSimpleName();
+        }
+    }
+
+    // Counters at the time of the snapshot, counters are not reset
+    // Counters are read one after the other, a snapshot taken during lookups can be off by the lookups in flight
+    public record Snapshot(long lookups, long misses, long nullValues, long castExceptions,
+                           @NotNull Map<CastPair, Long> casts, @NotNull Map<CastPair, Long> castFailures,
+                           long @NotNull [] latencyBuckets) {
+
+        // Latencies below this bound, in nanoseconds, fall into the bucket
+        public static long bucketUpperBound(final int bucket) {
+            return bucket >= BUCKETS - 1 ? Long.MAX_VALUE : 1L << bucket;
+        }
+
+        public long sampledLookups() {
+            long count = 0;
+            for (long bucket : latencyBuckets) {
+                count += bucket;
+            }
+            return count;
+        }
+
+        // Upper bound in nanoseconds of the latency under which a share of the sampled lookups fell, 0.99 for the p99
+        public long latencyPercentile(final double share) {
+            long target = (long) Math.ceil(share * sampledLookups());
+            long count = 0;
+            for (int i = 0; i < latencyBuckets.length; i++) {
+                count += latencyBuckets[i];
+                if (count >= target && count > 0) {
+                    return bucketUpperBound(i);
+                }
+            }
+            return 0;
+        }
+    }
+}
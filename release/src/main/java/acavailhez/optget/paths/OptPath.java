@@ -0,0 +1,112 @@
+package acavailhez.optget.paths;
+
+import org.jetbrains.annotations.NotNull;
+
+// A dotted key such as "features.1.geometry", parsed once into its segments
+// Segments that look like list indexes are pre-parsed, so lists can be indexed without parsing again
+// OptPath instances are immutable and can be shared between threads
+public final class OptPath {
+
+    // value of index(i) when the segment cannot be used as a list index
+    public static final int NOT_AN_INDEX = -1;
+
+    private final String path;
+    private final String[] segments;
+    private final int[] indexes;
+
+    private OptPath(final @NotNull String path, final @NotNull String[] segments) {
+        this.path = path;
+        this.segments = segments;
+        this.indexes = new int[segments.length];
+        for (int i = 0; i < segments.length; i++) {
+            indexes[i] = parseIndex(segments[i]);
+        }
+    }
+
+    // Parse a path, without looking into the cache
+    // Splits on "." the same way String.split("\\.") does: trailing empty segments are dropped
+    public static @NotNull OptPath compile(final @NotNull String path) {
+        String[] segments = new String[countSegments(path)];
+        int start = 0;
+        for (int i = 0; i < segments.length; i++) {
+            int dot = path.indexOf('.', start);
+            int end = dot < 0 ? path.length() : dot;
+            segments[i] = path.substring(start, end);
+            start = end + 1;
+        }
+        return new OptPath(path, segments);
+    }
+
+    // Parse a path, or reuse the one parsed by a previous call
+    public static @NotNull OptPath of(final @NotNull String path) {
+        return OptPathCache.get(path);
+    }
+
+    public int size() {
+        return segments.length;
+    }
+
+    public @NotNull String segment(final int i) {
+        return segments[i];
+    }
+
+    // The segment as a list index, or NOT_AN_INDEX
+    public int index(final int i) {
+        return indexes[i];
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof OptPath)) {
+            return false;
+        }
+        return path.equals(((OptPath) o).path);
+    }
+
+    @Override
+    public int hashCode() {
+        return path.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return path;
+    }
+
+    // number of segments once trailing empty segments are dropped
+    private static int countSegments(final @NotNull String path) {
+        int end = path.length();
+        while (end > 0 && path.charAt(end - 1) == '.') {
+            end--;
+        }
+        if (end == 0) {
+            // "" is a single empty segment, "..." has none
+            return path.isEmpty() ? 1 : 0;
+        }
+        int count = 1;
+        for (int i = 0; i < end; i++) {
+            if (path.charAt(i) == '.') {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static int parseIndex(final @NotNull String segment) {
+        if (segment.isEmpty() || segment.length() > 10) {
+            return NOT_AN_INDEX;
+        }
+        long index = 0;
+        for (int i = 0; i < segment.length(); i++) {
+            char c = segment.charAt(i);
+            if (c < '0' || c > '9') {
+                return NOT_AN_INDEX;
+            }
+            index = index * 10 + (c - '0');
+        }
+        return index > Integer.MAX_VALUE ? NOT_AN_INDEX : (int) index;
+    }
+}
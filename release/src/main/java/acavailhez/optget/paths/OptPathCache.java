@@ -0,0 +1,31 @@
+package acavailhez.optget.paths;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+// Bounded, thread-safe cache of parsed paths
+// Applications tend to look up the same few hundred paths over and over, so a simple
+// "clear when full" policy keeps the hot paths cached without the bookkeeping of an LRU
+final class OptPathCache {
+
+    static final int MAX_SIZE = 4096;
+
+    private static final ConcurrentHashMap<String, OptPath> CACHE = new ConcurrentHashMap<>();
+
+    private OptPathCache() {
+    }
+
+    static @NotNull OptPath get(final @NotNull String path) {
+        OptPath compiled = CACHE.get(path);
+        if (compiled != null) {
+            return compiled;
+        }
+        compiled = OptPath.compile(path);
+        if (CACHE.size() >= MAX_SIZE) {
+            CACHE.clear();
+        }
+        CACHE.put(path, compiled);
+        return compiled;
+    }
+}
@@ -0,0 +1,124 @@
+package acavailhez.optget.paths;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Several paths merged into a prefix tree, so that they can all be read in one walk
+// Nodes are numbered in depth-first order: node 0 is the root, the children of a node follow it,
+// and end(node) is the first node after its subtree
+// OptPaths instances are immutable and can be shared between threads
+public final class OptPaths {
+
+    private static final int[] NO_LEAVES = new int[0];
+
+    private final OptPath[] paths;
+    private final String[] segments;
+    private final int[] indexes;
+    private final int[] ends;
+    // for each node, the paths that end there
+    private final int[][] leaves;
+
+    private OptPaths(final @NotNull OptPath[] paths) {
+        this.paths = paths;
+        Builder root = new Builder(null, OptPath.NOT_AN_INDEX);
+        for (int i = 0; i < paths.length; i++) {
+            Builder node = root;
+            for (int s = 0; s < paths[i].size(); s++) {
+                node = node.child(paths[i].segment(s), paths[i].index(s));
+            }
+            node.leaves.add(i);
+        }
+        int count = root.count();
+        this.segments = new String[count];
+        this.indexes = new int[count];
+        this.ends = new int[count];
+        this.leaves = new int[count][];
+        flatten(root, 0);
+    }
+
+    public static @NotNull OptPaths compile(final @NotNull String... paths) {
+        OptPath[] parsed = new OptPath[paths.length];
+        for (int i = 0; i < paths.length; i++) {
+            parsed[i] = OptPath.of(paths[i]);
+        }
+        return new OptPaths(parsed);
+    }
+
+    public static @NotNull OptPaths compile(final @NotNull OptPath... paths) {
+        return new OptPaths(paths.clone());
+    }
+
+    // Number of paths
+    public int size() {
+        return paths.length;
+    }
+
+    public @NotNull OptPath path(final int i) {
+        return paths[i];
+    }
+
+    // Number of nodes of the tree, the root included
+    public int nodes() {
+        return segments.length;
+    }
+
+    // The segment leading to a node, the root has none
+    public @NotNull String segment(final int node) {
+        return segments[node];
+    }
+
+    // The segment leading to a node as a list index, or OptPath.NOT_AN_INDEX
+    public int index(final int node) {
+        return indexes[node];
+    }
+
+    // The first node after the subtree of a node
+    public int end(final int node) {
+        return ends[node];
+    }
+
+    // Indexes of the paths that end at a node
+    public int @NotNull [] leaves(final int node) {
+        return leaves[node];
+    }
+
+    private int flatten(final @NotNull Builder builder, final int node) {
+        segments[node] = builder.segment == null ? "" : builder.segment;
+        indexes[node] = builder.index;
+        leaves[node] = builder.leaves.isEmpty() ? NO_LEAVES : builder.leaves.stream().mapToInt(Integer::intValue).toArray();
+        int next = node + 1;
+        for (Builder child : builder.children.values()) {
+            next = flatten(child, next);
+        }
+        ends[node] = next;
+        return next;
+    }
+
+    private static final class Builder {
+        private final String segment;
+        private final int index;
+        private final Map<String, Builder> children = new LinkedHashMap<>();
+        private final List<Integer> leaves = new ArrayList<>();
+
+        private Builder(final String segment, final int index) {
+            this.segment = segment;
+            this.index = index;
+        }
+
+        private Builder child(final @NotNull String segment, final int index) {
+            return children.computeIfAbsent(segment, s -> new Builder(s, index));
+        }
+
+        private int count() {
+            int count = 1;
+            for (Builder child : children.values()) {
+                count += child.count();
+            }
+            return count;
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package acavailhez.optget.tape;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+// A document encoded as a tape of tagged values, read in place from a buffer that is usually off-heap
+//
+// header: "OGT1", int32 offset of the root object
+// NULL, FALSE, TRUE: the tag alone
+// LONG: tag, zigzag varint
+// DOUBLE: tag, 8 bytes
+// STRING: tag, varint length, UTF-8 bytes
+// ARRAY: tag, int32 count, count int32 offsets of the elements
+// OBJECT: tag, int32 count, count pairs of int32 offsets of a STRING key and of its value, sorted by key bytes
+//
+// Offsets are from the start of the buffer, values are written before the containers that point to them
+// Offsets are int32, so a tape holds at most MAX_SIZE bytes: the writer throws before an offset would overflow
+// The root is always an OBJECT
+// Everything is little-endian, and read with absolute gets only so that a tape can be shared between threads
+final class Tape {
+
+    static final int MAGIC = 'O' | 'G' << 8 | 'T' << 16 | '1' << 24;
+    static final int HEADER_SIZE = 8;
+    // the largest buffer a JVM allocates, every offset in it fits in an int32
+    static final int MAX_SIZE = Integer.MAX_VALUE - 8;
+
+    static final byte NULL = 0;
+    static final byte FALSE = 1;
+    static final byte TRUE = 2;
+    static final byte LONG = 3;
+    static final byte DOUBLE = 4;
+    static final byte STRING = 5;
+    static final byte ARRAY = 6;
+    static final byte OBJECT = 7;
+
+    final ByteBuffer buffer;
+
+    Tape(final @NotNull ByteBuffer buffer) {
+        this.buffer = buffer.order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Not an OptGet tape");
+        }
+    }
+
+    int root() {
+        return buffer.getInt(4);
+    }
+
+    byte tag(final int offset) {
+        return buffer.get(offset);
+    }
+
+    // The value at an offset, containers are wrapped without being read
+    @Nullable Object value(final int offset) {
+        switch (buffer.get(offset)) {
+            case NULL:
+                return null;
+            case FALSE:
+                return Boolean.FALSE;
+            case TRUE:
+                return Boolean.TRUE;
+            case LONG:
+                long zigzag = varint(offset + 1);
+                return (zigzag >>> 1) ^ -(zigzag & 1);
+            case DOUBLE:
+                return buffer.getDouble(offset + 1);
+            case STRING:
+                return string(offset);
+            case ARRAY:
+                return new TapeList(this, offset);
+            case OBJECT:
+                return new TapeOptGet(this, offset);
+            default:
+                throw new IllegalStateException("Invalid tag " + buffer.get(offset) + " at offset " + offset);
+        }
+    }
+
+    // Number of elements of an ARRAY or members of an OBJECT
+    int count(final int offset) {
+        return buffer.getInt(offset + 1);
+    }
+
+    int element(final int array, final int index) {
+        return buffer.getInt(array + 5 + 4 * index);
+    }
+
+    int key(final int object, final int index) {
+        return buffer.getInt(object + 5 + 8 * index);
+    }
+
+    int member(final int object, final int index) {
+        return buffer.getInt(object + 9 + 8 * index);
+    }
+
+    // Index of a key in an OBJECT, -1 if it is not there
+    int find(final int object, final @NotNull String key) {
+        byte[] utf8 = null;
+        int low = 0;
+        int high = count(object) - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int stored = key(object, middle);
+            int comparison = utf8 == null ? compareAscii(stored, key) : Integer.MIN_VALUE;
+            if (comparison == Integer.MIN_VALUE) {
+                if (utf8 == null) {
+                    utf8 = key.getBytes(StandardCharsets.UTF_8);
+                }
+                comparison = compare(stored, utf8);
+            }
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    @NotNull String string(final int offset) {
+        long length = varint(offset + 1);
+        byte[] bytes = new byte[(int) length];
+        buffer.get(offset + 1 + varintSize(length), bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // Compares a STRING to a key, without decoding it, Integer.MIN_VALUE when the key is not ASCII
+    private int compareAscii(final int offset, final @NotNull String key) {
+        long length = varint(offset + 1);
+        int start = offset + 1 + varintSize(length);
+        int common = (int) Math.min(length, key.length());
+        for (int i = 0; i < common; i++) {
+            char c = key.charAt(i);
+            if (c >= 0x80) {
+                return Integer.MIN_VALUE;
+            }
+            int difference = (buffer.get(start + i) & 0xFF) - c;
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        for (int i = common; i < key.length(); i++) {
+            if (key.charAt(i) >= 0x80) {
+                return Integer.MIN_VALUE;
+            }
+        }
+        return Long.compare(length, key.length());
+    }
+
+    private int compare(final int offset, final byte @NotNull [] key) {
+        long length = varint(offset + 1);
+        int start = offset + 1 + varintSize(length);
+        int common = (int) Math.min(length, key.length);
+        for (int i = 0; i < common; i++) {
+            int difference = (buffer.get(start + i) & 0xFF) - (key[i] & 0xFF);
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return Long.compare(length, key.length);
+    }
+
+    private long varint(int offset) {
+        long value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = buffer.get(offset++);
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+    }
+
+    static int varintSize(long value) {
+        int size = 1;
+        while ((value & ~0x7FL) != 0) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+}
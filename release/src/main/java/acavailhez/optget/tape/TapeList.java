@@ -0,0 +1,32 @@
+package acavailhez.optget.tape;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+// A read-only array of a tape, elements are decoded when they are read
+final class TapeList extends AbstractList<Object> implements RandomAccess {
+
+    private final Tape tape;
+    private final int offset;
+
+    TapeList(final @NotNull Tape tape, final int offset) {
+        this.tape = tape;
+        this.offset = offset;
+    }
+
+    @Override
+    public Object get(final int index) {
+        int size = size();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+        return tape.value(tape.element(offset, index));
+    }
+
+    @Override
+    public int size() {
+        return tape.count(offset);
+    }
+}
@@ -0,0 +1,104 @@
+package acavailhez.optget.tape;
+
+import acavailhez.optget.OptGet;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+// Read-only OptGet over a binary snapshot of a document, kept off-heap
+// encode() writes any tree of Maps (OptGet included), Lists and scalars to a direct buffer,
+// write() saves it to a file that map() reads back without loading it
+// Keys are found by binary search, nested objects and arrays are decoded only when they are read
+// Integers come back as Long, other numbers as Double, enums and characters as String
+// A tape is limited to 2GB, offsets in it are int32: encode() throws an IllegalArgumentException past that size
+// The root must be an object, a ListOptGet is rejected, one inside the tree is encoded as an array
+public class TapeOptGet extends OptGet {
+
+    private final Tape tape;
+    private final int offset;
+
+    TapeOptGet(final @NotNull Tape tape, final int offset) {
+        this.tape = tape;
+        this.offset = offset;
+    }
+
+    public static @NotNull TapeOptGet encode(final @NotNull Map<?, ?> root) {
+        Tape tape = new Tape(TapeWriter.encode(root));
+        return new TapeOptGet(tape, tape.root());
+    }
+
+    public static @NotNull TapeOptGet map(final @NotNull Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException(path + " is too large to be a tape");
+            }
+            Tape tape;
+            try {
+                tape = new Tape(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+            } catch (IllegalArgumentException e) {
+                throw new IOException(path + " is not a tape", e);
+            }
+            return new TapeOptGet(tape, tape.root());
+        }
+    }
+
+    // Writes the whole tape this object belongs to
+    public void write(final @NotNull Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer bytes = tape.buffer.duplicate().clear();
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+        }
+    }
+
+    @Override
+    protected @Nullable Object optToOverride(@NotNull Object key) {
+        int index = tape.find(offset, key.toString());
+        return index < 0 ? null : tape.value(tape.member(offset, index));
+    }
+
+    @Override
+    public @Nullable Object put(Object key, Object value) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Object remove(Object key) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public @NotNull Set<Object> keySet() {
+        int size = size();
+        Set<Object> keys = new LinkedHashSet<>();
+        for (int i = 0; i < size; i++) {
+            keys.add(tape.string(tape.key(offset, i)));
+        }
+        return Collections.unmodifiableSet(keys);
+    }
+
+    @Override
+    public int size() {
+        return tape.count(offset);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public boolean containsKey(final @NotNull Object key) {
+        return tape.find(offset, key.toString()) >= 0;
+    }
+}
@@ -0,0 +1,193 @@
+package acavailhez.optget.tape;
+
+import acavailhez.optget.wraps.ListOptGet;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Encodes a tree of Maps, Lists and scalars into a tape, see Tape for the format
+// Keys are written once and shared by all the objects that use them
+final class TapeWriter {
+
+    private ByteBuffer buffer = ByteBuffer.allocateDirect(4096).order(ByteOrder.LITTLE_ENDIAN);
+    private final Map<String, Integer> keys = new HashMap<>();
+    // containers being written, a container inside itself cannot be encoded
+    private final Set<Object> ancestors = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private TapeWriter() {
+    }
+
+    // A read-only direct buffer holding the tape of a root object
+    static @NotNull ByteBuffer encode(final @NotNull Map<?, ?> root) {
+        if (root instanceof ListOptGet) {
+            // its keys are indexes, it would be written as an object keyed "0", "1"... instead of an array
+            throw new IllegalArgumentException("The root of a tape must be an object, put the list under a key");
+        }
+        TapeWriter writer = new TapeWriter();
+        writer.buffer.putInt(Tape.MAGIC).putInt(0);
+        int offset = writer.write(root);
+        writer.buffer.putInt(4, offset);
+        writer.buffer.flip();
+        // trimmed to its size, the writer doubles its buffer as it grows
+        ByteBuffer tape = ByteBuffer.allocateDirect(writer.buffer.limit());
+        tape.put(writer.buffer).flip();
+        return tape.asReadOnlyBuffer();
+    }
+
+    private int write(final @Nullable Object value) {
+        if (value == null) {
+            return tag(Tape.NULL);
+        }
+        if (value instanceof Boolean) {
+            return tag((Boolean) value ? Tape.TRUE : Tape.FALSE);
+        }
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            long number = ((Number) value).longValue();
+            long zigzag = (number << 1) ^ (number >> 63);
+            int offset = tag(Tape.LONG);
+            varint(zigzag);
+            return offset;
+        }
+        if (value instanceof Number) {
+            int offset = tag(Tape.DOUBLE);
+            ensure(8);
+            buffer.putDouble(((Number) value).doubleValue());
+            return offset;
+        }
+        if (value instanceof CharSequence || value instanceof Character) {
+            return string(value.toString());
+        }
+        if (value instanceof Enum) {
+            return string(((Enum<?>) value).name());
+        }
+        if (value instanceof Map || value instanceof Collection) {
+            if (!ancestors.add(value)) {
+                throw new IllegalArgumentException("Cannot encode a container that contains itself in a tape");
+            }
+            try {
+                if (value instanceof ListOptGet) {
+                    // a wrapped list is an array, not an object keyed by indexes
+                    return array(((ListOptGet) value).values());
+                }
+                return value instanceof Map ? object((Map<?, ?>) value) : array((Collection<?>) value);
+            } finally {
+                ancestors.remove(value);
+            }
+        }
+        throw new IllegalArgumentException("Cannot encode [" + value + "] of class " + value.getClass().getSimpleName() + " in a tape");
+    }
+
+    private int object(final @NotNull Map<?, ?> map) {
+        List<Member> members = new ArrayList<>(map.size());
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            String key = String.valueOf(entry.getKey());
+            members.add(new Member(key, write(entry.getValue())));
+        }
+        // stable, the first of keys that are equal once turned into Strings is kept
+        members.sort((a, b) -> Arrays.compareUnsigned(a.utf8, b.utf8));
+        int count = 0;
+        for (int i = 0; i < members.size(); i++) {
+            if (i == 0 || !Arrays.equals(members.get(i - 1).utf8, members.get(i).utf8)) {
+                members.set(count++, members.get(i));
+            }
+        }
+        int[] keyOffsets = new int[count];
+        for (int i = 0; i < count; i++) {
+            String key = members.get(i).key;
+            Integer offset = keys.get(key);
+            if (offset == null) {
+                offset = string(key);
+                keys.put(key, offset);
+            }
+            keyOffsets[i] = offset;
+        }
+        int offset = tag(Tape.OBJECT);
+        ensure(4 + 8L * count);
+        buffer.putInt(count);
+        for (int i = 0; i < count; i++) {
+            buffer.putInt(keyOffsets[i]).putInt(members.get(i).value);
+        }
+        return offset;
+    }
+
+    private int array(final @NotNull Collection<?> collection) {
+        int[] elements = new int[collection.size()];
+        int count = 0;
+        for (Object element : collection) {
+            elements[count++] = write(element);
+        }
+        int offset = tag(Tape.ARRAY);
+        ensure(4 + 4L * count);
+        buffer.putInt(count);
+        for (int i = 0; i < count; i++) {
+            buffer.putInt(elements[i]);
+        }
+        return offset;
+    }
+
+    private int string(final @NotNull String value) {
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        int offset = tag(Tape.STRING);
+        varint(utf8.length);
+        ensure(utf8.length);
+        buffer.put(utf8);
+        return offset;
+    }
+
+    private int tag(final byte tag) {
+        ensure(1);
+        int offset = buffer.position();
+        buffer.put(tag);
+        return offset;
+    }
+
+    private void varint(long value) {
+        ensure(Tape.varintSize(value));
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    // Room for size more bytes, checked against the limit first so that no offset written after it can overflow
+    private void ensure(final long size) {
+        long end = buffer.position() + size;
+        if (end > Tape.MAX_SIZE) {
+            throw new IllegalArgumentException("Cannot encode a tape of more than " + Tape.MAX_SIZE
+                    + " bytes, offsets are int32");
+        }
+        if (buffer.remaining() >= size) {
+            return;
+        }
+        long capacity = Math.min(Math.max(2L * buffer.capacity(), end), Tape.MAX_SIZE);
+        ByteBuffer grown = ByteBuffer.allocateDirect((int) capacity).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.flip();
+        grown.put(buffer);
+        buffer = grown;
+    }
+
+    private static final class Member {
+        private final String key;
+        private final byte[] utf8;
+        private final int value;
+
+        private Member(final @NotNull String key, final int value) {
+            this.key = key;
+            this.utf8 = key.getBytes(StandardCharsets.UTF_8);
+            this.value = value;
+        }
+    }
+}
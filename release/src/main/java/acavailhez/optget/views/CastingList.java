@@ -0,0 +1,47 @@
+package acavailhez.optget.views;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+// Read-only List that casts the elements of another list when they are read
+// Lists that are not RandomAccess (eg LinkedList) are copied once into an array, so get(i) stays O(1)
+// When memoized, the source list must not change while the view is used
+public final class CastingList<T> extends AbstractList<T> implements RandomAccess {
+
+    private final List<?> source;
+    private final Function<Object, T> cast;
+    private final Object[] memo;
+
+    public CastingList(final @NotNull List<?> source, final @NotNull Function<Object, T> cast, final boolean memoize) {
+        this.source = source instanceof RandomAccess ? source : Arrays.asList(source.toArray());
+        this.cast = cast;
+        this.memo = memoize ? new Object[this.source.size()] : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(final int index) {
+        if (memo != null && index < memo.length && memo[index] != null) {
+            return (T) memo[index];
+        }
+        Object unknown = source.get(index);
+        if (unknown == null) {
+            return null;
+        }
+        T value = cast.apply(unknown);
+        if (memo != null && index < memo.length) {
+            memo[index] = value;
+        }
+        return value;
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+}
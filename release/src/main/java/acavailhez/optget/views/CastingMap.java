@@ -0,0 +1,139 @@
+package acavailhez.optget.views;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+// Read-only Map that casts the keys and values of another map when they are read
+// get(key) first tries the typed key as is in the source map, then a reverse index
+// (cast key -> source key) that is only built the first time it is needed
+// When memoized, the source map must not change while the view is used
+public final class CastingMap<K, V> extends AbstractMap<K, V> {
+
+    // marks a key that is not in the source map
+    private static final Object NONE = new Object();
+
+    private final Map<?, ?> source;
+    private final Class<K> keyClass;
+    private final Function<Object, K> keyCast;
+    private final Function<Object, V> valueCast;
+    private final @Nullable Map<Object, V> memo;
+    private volatile Map<Object, Object> reverseIndex;
+
+    public CastingMap(final @NotNull Map<?, ?> source,
+                      final @NotNull Class<K> keyClass,
+                      final @NotNull Function<Object, K> keyCast,
+                      final @NotNull Function<Object, V> valueCast,
+                      final boolean memoize) {
+        this.source = source;
+        this.keyClass = keyClass;
+        this.keyCast = keyCast;
+        this.valueCast = valueCast;
+        this.memo = memoize ? new ConcurrentHashMap<>() : null;
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return source.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return sourceKey(key) != NONE;
+    }
+
+    @Override
+    public V get(final Object key) {
+        Object sourceKey = sourceKey(key);
+        if (sourceKey == NONE) {
+            return null;
+        }
+        return value(sourceKey, source.get(sourceKey));
+    }
+
+    @Override
+    public @NotNull Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public @NotNull Iterator<Entry<K, V>> iterator() {
+                Iterator<? extends Entry<?, ?>> entries = source.entrySet().iterator();
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return entries.hasNext();
+                    }
+
+                    @Override
+                    public Entry<K, V> next() {
+                        Entry<?, ?> entry = entries.next();
+                        return new SimpleImmutableEntry<>(cast(keyCast, entry.getKey()), value(entry.getKey(), entry.getValue()));
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return source.size();
+            }
+        };
+    }
+
+    private @Nullable V value(final Object sourceKey, final @Nullable Object unknown) {
+        if (unknown == null) {
+            return null;
+        }
+        if (memo == null || sourceKey == null) {
+            return valueCast.apply(unknown);
+        }
+        V value = memo.get(sourceKey);
+        if (value == null) {
+            value = valueCast.apply(unknown);
+            memo.put(sourceKey, value);
+        }
+        return value;
+    }
+
+    // the key of the source map that casts to key, or NONE
+    private Object sourceKey(final Object key) {
+        if (key != null && keyClass.isInstance(key)) {
+            try {
+                if (source.containsKey(key)) {
+                    // keys that already have the right class are not changed by the cast
+                    return key;
+                }
+            } catch (ClassCastException e) {
+                // sorted maps of another key class
+            }
+        }
+        return reverseIndex().getOrDefault(key, NONE);
+    }
+
+    private @NotNull Map<Object, Object> reverseIndex() {
+        Map<Object, Object> index = reverseIndex;
+        if (index == null) {
+            index = new HashMap<>();
+            for (Object sourceKey : source.keySet()) {
+                index.put(cast(keyCast, sourceKey), sourceKey);
+            }
+            reverseIndex = index;
+        }
+        return index;
+    }
+
+    private static <T> @Nullable T cast(final @NotNull Function<Object, T> cast, final @Nullable Object unknown) {
+        return unknown == null ? null : cast.apply(unknown);
+    }
+}
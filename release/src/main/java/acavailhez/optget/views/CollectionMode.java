@@ -0,0 +1,14 @@
+package acavailhez.optget.views;
+
+// How optList and optMap convert the elements of a collection
+public enum CollectionMode {
+    // cast every element up front into a new collection
+    EAGER,
+    // read-only view that casts elements when they are read
+    LAZY,
+    // read-only view that casts elements when they are first read, then keeps them
+    LAZY_MEMOIZED,
+    // like EAGER, but collections larger than the parallel threshold of the OptGet
+    // are split across the common ForkJoinPool
+    PARALLEL,
+}
@@ -0,0 +1,21 @@
+package acavailhez.optget.views;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+// A list that reads its elements only as far as they are asked for, so that size() reads them all
+// Path walks check indexes through hasIndex, which reads no further than the index
+public interface LazyList {
+
+    // Whether there is an element at that index, index is not negative
+    boolean hasIndex(final int index);
+
+    // Whether a list has an element at an index, without calling size() on lazy lists
+    static boolean has(final @NotNull List<?> list, final int index) {
+        if (index < 0) {
+            return false;
+        }
+        return list instanceof LazyList ? ((LazyList) list).hasIndex(index) : index < list.size();
+    }
+}
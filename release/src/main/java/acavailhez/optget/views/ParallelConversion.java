@@ -0,0 +1,84 @@
+package acavailhez.optget.views;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+// Runs a conversion for every index of a collection, split across the common ForkJoinPool
+// The conversion stores its own results (eg result[i] = cast(list.get(i))) so order is kept,
+// and when conversions fail, the exception of the lowest index is thrown, as a sequential loop would do
+public final class ParallelConversion {
+
+    // smallest range converted by a single task
+    private static final int MIN_LEAF_SIZE = 1024;
+
+    private ParallelConversion() {
+    }
+
+    public static void run(final int size, final @NotNull IntConsumer conversion) {
+        int tasks = ForkJoinPool.getCommonPoolParallelism() * 4;
+        int leafSize = Math.max(MIN_LEAF_SIZE, size / Math.max(1, tasks));
+        Failure failure = new Failure();
+        ForkJoinPool.commonPool().invoke(new ConversionTask(conversion, 0, size, leafSize, failure));
+        if (failure.exception != null) {
+            throw failure.exception;
+        }
+    }
+
+    private static final class ConversionTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final IntConsumer conversion;
+        private final int from;
+        private final int to;
+        private final int leafSize;
+        private final Failure failure;
+
+        private ConversionTask(final IntConsumer conversion, final int from, final int to, final int leafSize, final Failure failure) {
+            this.conversion = conversion;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+            this.failure = failure;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > leafSize) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ConversionTask(conversion, from, middle, leafSize, failure),
+                        new ConversionTask(conversion, middle, to, leafSize, failure));
+                return;
+            }
+            for (int i = from; i < to; i++) {
+                if (i > failure.index) {
+                    // an earlier index already failed, the rest is useless
+                    return;
+                }
+                try {
+                    conversion.accept(i);
+                } catch (RuntimeException e) {
+                    failure.report(i, e);
+                    return;
+                }
+            }
+        }
+    }
+
+    // The failure with the lowest index
+    private static final class Failure {
+
+        private volatile int index = Integer.MAX_VALUE;
+        private RuntimeException exception;
+
+        private synchronized void report(final int index, final @NotNull RuntimeException exception) {
+            if (index < this.index) {
+                this.exception = exception;
+                this.index = index;
+            }
+        }
+    }
+}
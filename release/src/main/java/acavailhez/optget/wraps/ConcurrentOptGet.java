@@ -0,0 +1,327 @@
+package acavailhez.optget.wraps;
+
+import acavailhez.optget.OptGet;
+import acavailhez.optget.casts.CastMode;
+import acavailhez.optget.casts.LongCast;
+import acavailhez.optget.paths.OptPath;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+// Mutable OptGet that can be shared and updated by many threads
+// Objects are ConcurrentHashMaps and lists are CopyOnWriteArrayLists: Maps and Lists are copied into them when stored
+// Writes with a String or OptPath key take a path, "stats.requests" updates the key "requests" of the object at "stats",
+// and the missing objects on the way are created atomically, other keys are keys of the root object
+// Updates of an object key are atomic through ConcurrentHashMap, those of a list element lock the list
+// The value returned by an update is the one stored, a Map or List given to it comes back as its concurrent copy
+// Like ConcurrentHashMap, null keys and values are not supported
+public class ConcurrentOptGet extends OptGet {
+
+    private final static LongCast castor = new LongCast();
+
+    private final ConcurrentHashMap<Object, Object> map;
+
+    public ConcurrentOptGet() {
+        this.map = new ConcurrentHashMap<>();
+    }
+
+    // Copies the whole tree of a map
+    public ConcurrentOptGet(final @NotNull Map<?, ?> map) {
+        this.map = concurrentMap(map);
+    }
+
+    @Override
+    protected @Nullable Object optToOverride(@NotNull Object key) {
+        return map.get(key);
+    }
+
+    @Override
+    public @Nullable Object put(final Object key, final Object value) {
+        Object concurrent = concurrent(value);
+        return update(key, new Update() {
+            @Override
+            public Object onMap(final ConcurrentMap<Object, Object> parent, final Object leaf) {
+                return parent.put(leaf, concurrent);
+            }
+
+            @Override
+            public Object onList(final List<Object> parent, final int index) {
+                return parent.set(index, concurrent);
+            }
+        });
+    }
+
+    @Override
+    public @Nullable Object putIfAbsent(final Object key, final Object value) {
+        Object concurrent = concurrent(value);
+        return update(key, new Update() {
+            @Override
+            public Object onMap(final ConcurrentMap<Object, Object> parent, final Object leaf) {
+                return parent.putIfAbsent(leaf, concurrent);
+            }
+
+            @Override
+            public Object onList(final List<Object> parent, final int index) {
+                Object previous = parent.get(index);
+                if (previous == null) {
+                    parent.set(index, concurrent);
+                }
+                return previous;
+            }
+        });
+    }
+
+    @Override
+    public Object remove(final Object key) {
+        if (!isPath(key)) {
+            return map.remove(key);
+        }
+        OptPath path = path(key);
+        Object parent = parent(path, false);
+        if (parent instanceof ConcurrentMap) {
+            return ((ConcurrentMap<?, ?>) parent).remove(path.segment(path.size() - 1));
+        }
+        // list elements keep their place, set them to a new value instead
+        if (parent instanceof List) {
+            throw new UnsupportedOperationException("Cannot remove the list element at " + key);
+        }
+        return null;
+    }
+
+    @Override
+    public Object compute(final Object key, final BiFunction<? super Object, ? super Object, ?> remappingFunction) {
+        return update(key, new Update() {
+            @Override
+            public Object onMap(final ConcurrentMap<Object, Object> parent, final Object leaf) {
+                return parent.compute(leaf, (k, v) -> concurrent(remappingFunction.apply(key, v)));
+            }
+
+            @Override
+            public Object onList(final List<Object> parent, final int index) {
+                Object value = concurrent(Objects.requireNonNull(remappingFunction.apply(key, parent.get(index)), "list elements cannot be removed"));
+                parent.set(index, value);
+                return value;
+            }
+        });
+    }
+
+    @Override
+    public Object computeIfAbsent(final Object key, final Function<? super Object, ?> mappingFunction) {
+        return update(key, new Update() {
+            @Override
+            public Object onMap(final ConcurrentMap<Object, Object> parent, final Object leaf) {
+                return parent.computeIfAbsent(leaf, k -> concurrent(mappingFunction.apply(key)));
+            }
+
+            @Override
+            public Object onList(final List<Object> parent, final int index) {
+                Object value = parent.get(index);
+                if (value == null) {
+                    value = concurrent(mappingFunction.apply(key));
+                    if (value != null) {
+                        parent.set(index, value);
+                    }
+                }
+                return value;
+            }
+        });
+    }
+
+    @Override
+    public Object computeIfPresent(final Object key, final BiFunction<? super Object, ? super Object, ?> remappingFunction) {
+        return update(key, new Update() {
+            @Override
+            public Object onMap(final ConcurrentMap<Object, Object> parent, final Object leaf) {
+                return parent.computeIfPresent(leaf, (k, v) -> concurrent(remappingFunction.apply(key, v)));
+            }
+
+            @Override
+            public Object onList(final List<Object> parent, final int index) {
+                Object value = parent.get(index);
+                if (value != null) {
+                    value = concurrent(Objects.requireNonNull(remappingFunction.apply(key, value), "list elements cannot be removed"));
+                    parent.set(index, value);
+                }
+                return value;
+            }
+        });
+    }
+
+    @Override
+    public Object merge(final Object key, final Object value, final BiFunction<? super Object, ? super Object, ?> remappingFunction) {
+        Object concurrent = concurrent(value);
+        return update(key, new Update() {
+            @Override
+            public Object onMap(final ConcurrentMap<Object, Object> parent, final Object leaf) {
+                return parent.merge(leaf, concurrent, (a, b) -> concurrent(remappingFunction.apply(a, b)));
+            }
+
+            @Override
+            public Object onList(final List<Object> parent, final int index) {
+                Object previous = parent.get(index);
+                Object merged = previous == null ? concurrent : concurrent(remappingFunction.apply(previous, concurrent));
+                parent.set(index, Objects.requireNonNull(merged, "list elements cannot be removed"));
+                return merged;
+            }
+        });
+    }
+
+    // Adds to the number at a path, which starts at 0, and returns the result
+    public long addLong(final @NotNull Object key, final long delta) {
+        return (Long) merge(key, delta, (previous, added) -> castor.castToLong(previous, CastMode.CLEAN) + (Long) added);
+    }
+
+    public long incrementLong(final @NotNull Object key) {
+        return addLong(key, 1);
+    }
+
+    @Override
+    public void clear() {
+        map.clear();
+    }
+
+    @Override
+    public @NotNull Set<Object> keySet() {
+        return map.keySet();
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(final @NotNull Object key) {
+        return map.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(final @NotNull Object value) {
+        return map.containsValue(value);
+    }
+
+    @Override
+    public @NotNull Collection<Object> values() {
+        return map.values();
+    }
+
+    @Override
+    public @NotNull Set<Entry<Object, Object>> entrySet() {
+        return map.entrySet();
+    }
+
+    // #####################
+    //  Internals
+    // #####################
+
+    // A write at the end of a path, once the object or list holding it is found
+    private interface Update {
+        Object onMap(ConcurrentMap<Object, Object> parent, Object leaf);
+
+        // called with the lock of the list held
+        Object onList(List<Object> parent, int index);
+    }
+
+    private Object update(final @NotNull Object key, final @NotNull Update update) {
+        if (!isPath(key)) {
+            return update.onMap(map, key);
+        }
+        OptPath path = path(key);
+        Object parent = parent(path, true);
+        if (parent instanceof ConcurrentMap) {
+            // safe: the objects of the tree hold any key and value, as the OptGet itself does
+            @SuppressWarnings("unchecked")
+            ConcurrentMap<Object, Object> object = (ConcurrentMap<Object, Object>) parent;
+            return update.onMap(object, path.segment(path.size() - 1));
+        }
+        // safe: the lists of the tree hold any value
+        @SuppressWarnings("unchecked")
+        List<Object> list = (List<Object>) parent;
+        int index = path.index(path.size() - 1);
+        if (index == OptPath.NOT_AN_INDEX || index >= list.size()) {
+            throw new IndexOutOfBoundsException("No list element at " + key);
+        }
+        synchronized (list) {
+            return update.onList(list, index);
+        }
+    }
+
+    // The object or list holding the last segment of the path, null when missing and not created
+    private @Nullable Object parent(final @NotNull OptPath path, final boolean create) {
+        Object node = map;
+        for (int i = 0; i < path.size() - 1 && node != null; i++) {
+            if (node instanceof ConcurrentMap) {
+                // safe: the objects of the tree hold any key and value, and only ConcurrentHashMaps are put in them
+                @SuppressWarnings("unchecked")
+                ConcurrentMap<Object, Object> object = (ConcurrentMap<Object, Object>) node;
+                node = create ? object.computeIfAbsent(path.segment(i), k -> new ConcurrentHashMap<>()) : object.get(path.segment(i));
+            } else if (node instanceof List) {
+                List<?> list = (List<?>) node;
+                int index = path.index(i);
+                node = index == OptPath.NOT_AN_INDEX || index >= list.size() ? null : list.get(index);
+            } else {
+                throw new IllegalArgumentException("Cannot write at " + path + ", " + path.segment(i - 1) + " is neither an object nor a list");
+            }
+        }
+        if (node == null) {
+            if (create) {
+                throw new IllegalArgumentException("Cannot write at " + path + ", a list element on the way is missing");
+            }
+            return null;
+        }
+        if (!(node instanceof ConcurrentMap) && !(node instanceof List)) {
+            throw new IllegalArgumentException("Cannot write at " + path + ", its parent is neither an object nor a list");
+        }
+        return node;
+    }
+
+    // String and OptPath keys are paths, any other key is a key of the root object, used as is
+    private static boolean isPath(final @NotNull Object key) {
+        return key instanceof String || key instanceof OptPath;
+    }
+
+    private static @NotNull OptPath path(final @NotNull Object key) {
+        OptPath path = key instanceof OptPath ? (OptPath) key : OptPath.of((String) key);
+        if (path.size() == 0) {
+            throw new IllegalArgumentException("Empty path [" + key + "]");
+        }
+        return path;
+    }
+
+    private static Object concurrent(final Object value) {
+        if (value instanceof Map && !(value instanceof ConcurrentMap)) {
+            return concurrentMap((Map<?, ?>) value);
+        }
+        if (value instanceof List && !(value instanceof CopyOnWriteArrayList)) {
+            CopyOnWriteArrayList<Object> list = new CopyOnWriteArrayList<>();
+            for (Object element : (List<?>) value) {
+                list.add(concurrent(element));
+            }
+            return list;
+        }
+        return value;
+    }
+
+    private static @NotNull ConcurrentHashMap<Object, Object> concurrentMap(final @NotNull Map<?, ?> map) {
+        ConcurrentHashMap<Object, Object> concurrent = new ConcurrentHashMap<>();
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            concurrent.put(entry.getKey(), concurrent(entry.getValue()));
+        }
+        return concurrent;
+    }
+}
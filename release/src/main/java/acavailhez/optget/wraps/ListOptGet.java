@@ -1,16 +1,23 @@
 package acavailhez.optget.wraps;
 
 import acavailhez.optget.OptGet;
+import acavailhez.optget.casts.CastException;
 import acavailhez.optget.casts.CastMode;
 import acavailhez.optget.casts.IntegerCast;
+import acavailhez.optget.views.LazyList;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.HashSet;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Set;
 
 // OptGet wrapper around a List<?>
+// Keys are the indexes of the list
 public class ListOptGet extends OptGet {
 
     private final List<Object> list;
@@ -22,28 +29,145 @@ public class ListOptGet extends OptGet {
 
     @Override
     protected @Nullable Object optToOverride(@NotNull Object key) {
-        Integer index = castor.cast(key, CastMode.CLEAN);
-        return list.get(index);
+        int index = index(key);
+        return index < 0 ? null : list.get(index);
     }
 
     @Override
     public @Nullable Object put(Object key, Object value) {
-        Integer index = castor.cast(key, CastMode.CLEAN);
-        return list.set(index, value);
+        return list.set(castor.castToInt(key, CastMode.CLEAN), value);
     }
 
     @Override
     public Object remove(Object key) {
-        Integer index = castor.cast(key, CastMode.CLEAN);
-        return list.remove(index);
+        return list.remove(castor.castToInt(key, CastMode.CLEAN));
+    }
+
+    @Override
+    public void clear() {
+        list.clear();
+    }
+
+    @Override
+    public int size() {
+        return list.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return list.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(final @NotNull Object key) {
+        return index(key) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(final @NotNull Object value) {
+        return list.contains(value);
+    }
+
+    @Override
+    public @NotNull Collection<Object> values() {
+        return list;
     }
 
     @Override
     public @NotNull Set<Object> keySet() {
-        Set<Object> keys = new HashSet<>();
-        for (int i = 0; i < list.size(); i++) {
-            keys.add(i);
+        return new AbstractSet<>() {
+            @Override
+            public @NotNull Iterator<Object> iterator() {
+                return new IndexIterator<>() {
+                    @Override
+                    protected Object element(final int index) {
+                        return index;
+                    }
+                };
+            }
+
+            @Override
+            public boolean contains(final Object key) {
+                return key != null && index(key) >= 0;
+            }
+
+            @Override
+            public int size() {
+                return list.size();
+            }
+        };
+    }
+
+    @Override
+    public @NotNull Set<Entry<Object, Object>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public @NotNull Iterator<Entry<Object, Object>> iterator() {
+                return new IndexIterator<>() {
+                    @Override
+                    protected Entry<Object, Object> element(final int index) {
+                        return new AbstractMap.SimpleImmutableEntry<>(index, list.get(index));
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return list.size();
+            }
+        };
+    }
+
+    // The index for a key, or -1 when it is not an index of the list
+    private int index(final @NotNull Object key) {
+        int index;
+        if (key instanceof Integer) {
+            index = (Integer) key;
+        } else if (key instanceof String && !isIndex((String) key)) {
+            // paths such as "1.name" end up here first, an exception would cost more than the lookup
+            return -1;
+        } else {
+            try {
+                index = castor.castToInt(key, CastMode.CLEAN);
+            } catch (CastException e) {
+                return -1;
+            }
+        }
+        return LazyList.has(list, index) ? index : -1;
+    }
+
+    // Whether a String can be cast into an index, digits with surrounding spaces
+    private static boolean isIndex(final @NotNull String key) {
+        String trimmed = key.trim();
+        if (trimmed.isEmpty()) {
+            return false;
         }
-        return keys;
+        for (int i = 0; i < trimmed.length(); i++) {
+            char c = trimmed.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private abstract class IndexIterator<E> implements Iterator<E> {
+
+        private int next = 0;
+
+        @Override
+        public boolean hasNext() {
+            return next < list.size();
+        }
+
+        @Override
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return element(next++);
+        }
+
+        protected abstract E element(final int index);
     }
 }
@@ -4,6 +4,7 @@ import acavailhez.optget.OptGet;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
 
@@ -16,24 +17,63 @@ public class MapOptGet extends OptGet {
         this.map = (Map<Object, Object>) map;
     }
 
+    // The wrapped map, overridden by wrappers that are pointed at one map after another
+    protected @NotNull Map<Object, Object> map() {
+        return map;
+    }
+
     @Override
     protected @Nullable Object optToOverride(@NotNull Object key) {
-        return map.get(key);
+        return map().get(key);
     }
 
     @Override
     public @Nullable Object put(Object key, Object value) {
-        return map.put(key, value);
+        return map().put(key, value);
     }
 
     @Override
     public Object remove(Object key) {
-        return map.remove(key);
+        return map().remove(key);
+    }
+
+    @Override
+    public void clear() {
+        map().clear();
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public @NotNull Set<Object> keySet() {
-        return (Set<Object>) map.keySet();
+        return map().keySet();
+    }
+
+    @Override
+    public int size() {
+        return map().size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return map().isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(final @NotNull Object key) {
+        return map().containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(final @NotNull Object value) {
+        return map().containsValue(value);
+    }
+
+    @Override
+    public @NotNull Collection<Object> values() {
+        return map().values();
+    }
+
+    @Override
+    public @NotNull Set<Entry<Object, Object>> entrySet() {
+        return map().entrySet();
     }
 }
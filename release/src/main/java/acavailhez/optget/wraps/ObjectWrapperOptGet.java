@@ -1,23 +1,39 @@
 package acavailhez.optget.wraps;
 
 import acavailhez.optget.OptGet;
+import acavailhez.optget.events.CoercionEvent;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
 
 // A moderately unsafe OptGet wrapper that will attempt to read the getXX methods of an object
 public class ObjectWrapperOptGet extends OptGet {
 
+    // Readable properties of every wrapped class, introspected once per class
+    private static final ClassValue<Accessors> ACCESSORS = new ClassValue<>() {
+        @Override
+        protected Accessors computeValue(final Class<?> type) {
+            return new Accessors(type);
+        }
+    };
 
     private final Object wrapped;
+    private final Accessors accessors;
 
     public ObjectWrapperOptGet(final @NotNull Object wrapped) {
         this.wrapped = wrapped;
+        this.accessors = ACCESSORS.get(wrapped.getClass());
     }
 
     @Override
@@ -25,29 +41,24 @@ public class ObjectWrapperOptGet extends OptGet {
         if (!(key instanceof String)) {
             throw new IllegalArgumentException("key [" + key + "] must be a String");
         }
-        // try to find a public getter matching the key
-        String getterName = "get" + capitalizeFirstLetter((String) key);
-        try {
-            Method getter = wrapped.getClass().getDeclaredMethod(getterName);
-            if (Modifier.isPublic(getter.getModifiers())) {
-                return getter.invoke(wrapped);
-            }
-        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException ex) {
-            // expected if the method does not exist
+        MethodHandle accessor = accessors.find((String) key);
+        if (accessor == null) {
+            // could not find anything
+            return null;
         }
-
-        // try to find a public field matching the key
+        CoercionEvent event = CoercionEvent.start();
         try {
-            Field field = wrapped.getClass().getField((String) key);
-            if (Modifier.isPublic(field.getModifiers())) {
-                return field.get(wrapped);
+            Object value = (Object) accessor.invokeExact(wrapped);
+            if (event != null) {
+                event.finish(key, ObjectWrapperOptGet.class, wrapped.getClass(), value == null ? null : value.getClass(), CoercionEvent.REFLECTION);
             }
-        } catch (NoSuchFieldException | IllegalAccessException ex) {
-            // expected if the field does not exist
+            return value;
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable t) {
+            // a getter that fails is considered missing
+            return null;
         }
-
-        // could not find anything
-        return null;
     }
 
     @Override
@@ -62,10 +73,77 @@ public class ObjectWrapperOptGet extends OptGet {
 
     @Override
     public @NotNull Set<Object> keySet() {
-        return Set.of();
+        return accessors.properties;
+    }
+
+    @Override
+    public int size() {
+        return accessors.properties.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return accessors.properties.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(final @NotNull Object key) {
+        return key instanceof String && accessors.find((String) key) != null;
     }
 
-    private static String capitalizeFirstLetter(String input) {
-        return input.substring(0, 1).toUpperCase() + input.substring(1);
+    // Public getters declared by a class (getXX() matches the keys "xX" and "XX") and its public fields
+    // A getter wins over a field with the same name
+    private static final class Accessors {
+
+        private static final MethodType ACCESSOR_TYPE = MethodType.methodType(Object.class, Object.class);
+
+        private final Map<String, MethodHandle> byKey = new HashMap<>();
+        private final Set<Object> properties;
+
+        private Accessors(final @NotNull Class<?> type) {
+            Set<Object> names = new LinkedHashSet<>();
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            for (Method method : type.getDeclaredMethods()) {
+                String name = method.getName();
+                if (!Modifier.isPublic(method.getModifiers()) || method.isBridge() || method.getParameterCount() != 0
+                        || method.getReturnType() == void.class || name.length() <= 3 || !name.startsWith("get")) {
+                    continue;
+                }
+                MethodHandle accessor;
+                try {
+                    accessor = accessor(lookup.unreflect(method), Modifier.isStatic(method.getModifiers()));
+                } catch (IllegalAccessException ex) {
+                    // expected if the class itself is not public
+                    continue;
+                }
+                String capitalized = name.substring(3);
+                String property = Character.toLowerCase(capitalized.charAt(0)) + capitalized.substring(1);
+                byKey.put(capitalized, accessor);
+                byKey.put(property, accessor);
+                names.add(property);
+            }
+            for (Field field : type.getFields()) {
+                if (byKey.containsKey(field.getName())) {
+                    continue;
+                }
+                try {
+                    byKey.put(field.getName(), accessor(lookup.unreflectGetter(field), Modifier.isStatic(field.getModifiers())));
+                    names.add(field.getName());
+                } catch (IllegalAccessException ex) {
+                    // expected if the class itself is not public
+                }
+            }
+            this.properties = Collections.unmodifiableSet(names);
+        }
+
+        private @Nullable MethodHandle find(final @NotNull String key) {
+            return byKey.get(key);
+        }
+
+        // (Object)Object handle, so it can be called with invokeExact
+        private static @NotNull MethodHandle accessor(final @NotNull MethodHandle handle, final boolean isStatic) {
+            MethodHandle instance = isStatic ? MethodHandles.dropArguments(handle, 0, Object.class) : handle;
+            return instance.asType(ACCESSOR_TYPE);
+        }
     }
 }
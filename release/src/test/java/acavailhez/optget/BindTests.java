@@ -0,0 +1,193 @@
+package acavailhez.optget;
+
+import acavailhez.optget.binds.BindPath;
+import acavailhez.optget.casts.AbstractCast;
+import acavailhez.optget.casts.CastException;
+import acavailhez.optget.casts.CastMode;
+import acavailhez.optget.wraps.MapOptGet;
+import com.google.gson.Gson;
+import org.jetbrains.annotations.NotNull;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class BindTests extends AbstractTests {
+
+    private static final String JSON = """
+            {
+                name: "feature",
+                count: 3.0,
+                color: "primary",
+                geometry: {
+                    type: "Point",
+                    coordinates: [1.5, 2.5]
+                },
+                properties: {
+                    tags: [{label: "a"}, {label: "b"}]
+                }
+            }
+            """;
+
+    public record Geometry(String type, List<Double> coordinates) {
+    }
+
+    public record Tag(String label) {
+    }
+
+    public record Feature(String name,
+                          int count,
+                          long missingCount,
+                          Bootstrap4Color color,
+                          Geometry geometry,
+                          @BindPath("geometry.type") String type,
+                          @BindPath("properties.tags") List<Tag> tags) {
+    }
+
+    public static class FeaturePojo {
+        private String name;
+        @BindPath("geometry.type")
+        private String type;
+        private int count;
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public void setType(String type) {
+            this.type = type;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+    }
+
+    @Test
+    public void bindRecord() throws Exception {
+        MapOptGet map = new MapOptGet(new Gson().fromJson(JSON, Map.class));
+        Feature feature = map.bind(Feature.class);
+        Assert.assertEquals("feature", feature.name());
+        Assert.assertEquals(3, feature.count());
+        Assert.assertEquals(0L, feature.missingCount());
+        Assert.assertEquals(Bootstrap4Color.PRIMARY, feature.color());
+        Assert.assertEquals(new Geometry("Point", List.of(1.5, 2.5)), feature.geometry());
+        Assert.assertEquals("Point", feature.type());
+        Assert.assertEquals(List.of(new Tag("a"), new Tag("b")), feature.tags());
+    }
+
+    @Test
+    public void bindPojo() throws Exception {
+        MapOptGet map = new MapOptGet(new Gson().fromJson(JSON, Map.class));
+        FeaturePojo feature = map.bind(FeaturePojo.class);
+        Assert.assertEquals("feature", feature.name);
+        Assert.assertEquals("Point", feature.type);
+        Assert.assertEquals(3, feature.count);
+    }
+
+    public record Count(int count) {
+    }
+
+    public record Counts(int count, Count nested, List<Count> list) {
+    }
+
+    @Test
+    public void bindNestedWithConfig() throws Exception {
+        MapOptGet map = new MapOptGet(new Gson().fromJson(
+                "{count: 1, nested: {count: 2}, list: [{count: 3}]}", Map.class));
+        map.addCast(new AbstractCast<Integer>() {
+            @Override
+            public @NotNull Integer cast(@NotNull Object unknown, @NotNull CastMode mode) {
+                return 42;
+            }
+
+            @Override
+            public @NotNull Class<Integer> getCastClass() {
+                return Integer.class;
+            }
+        });
+        // nested records are read with the casts of the object they are bound from
+        Assert.assertEquals(new Counts(42, new Count(42), List.of(new Count(42))), map.bind(Counts.class));
+
+        MapOptGet padded = new MapOptGet(Map.of("count", 1, "nested", Map.of("count", " 2 "), "list", List.of()));
+        padded.setCastMode(CastMode.PARSE);
+        try {
+            padded.bind(Counts.class);
+            assert false;
+        } catch (CastException ex) {
+        }
+    }
+
+    // a value type: it has a no-argument constructor, but is read from a String by a registered cast
+    public static class Money {
+        private String amount;
+
+        public Money() {
+        }
+
+        public void setAmount(String amount) {
+            this.amount = amount;
+        }
+    }
+
+    public record Price(Money price, Tag tag) {
+    }
+
+    @Test
+    public void bindRegisteredCast() throws Exception {
+        MapOptGet map = new MapOptGet(Map.of("price", "12 EUR", "tag", Map.of("label", "sale")));
+        map.addCast(new AbstractCast<Money>() {
+            @Override
+            public @NotNull Money cast(@NotNull Object unknown, @NotNull CastMode mode) {
+                Money money = new Money();
+                money.setAmount(unknown.toString());
+                return money;
+            }
+
+            @Override
+            public @NotNull Class<Money> getCastClass() {
+                return Money.class;
+            }
+        });
+        Price price = map.bind(Price.class);
+        Assert.assertEquals("12 EUR", price.price().amount);
+        Assert.assertEquals(new Tag("sale"), price.tag());
+    }
+
+    @Test
+    public void bindInOneWalk() throws Exception {
+        Map<String, Integer> lookups = new HashMap<>();
+        MapOptGet map = new MapOptGet(new Gson().fromJson(JSON, Map.class)) {
+            @Override
+            protected Object optToOverride(Object key) {
+                lookups.merge(key.toString(), 1, Integer::sum);
+                return super.optToOverride(key);
+            }
+        };
+        map.bind(Feature.class);
+        // "geometry" is read by the geometry and type components, but walked once
+        Assert.assertEquals(Integer.valueOf(1), lookups.get("geometry"));
+        Assert.assertEquals(Integer.valueOf(1), lookups.get("name"));
+    }
+
+    public static class NotBindable {
+        public NotBindable(String name) {
+        }
+    }
+
+    @Test
+    public void bindFailure() throws Exception {
+        MapOptGet map = new MapOptGet(new Gson().fromJson(JSON, Map.class));
+        // the failure is kept and thrown again
+        for (int i = 0; i < 2; i++) {
+            try {
+                map.bind(NotBindable.class);
+                assert false;
+            } catch (IllegalArgumentException ex) {
+                assert ex.getMessage().contains("no-argument constructor");
+            }
+        }
+    }
+}
@@ -1,10 +1,30 @@
 package acavailhez.optget;
 
+import acavailhez.optget.casts.AbstractCast;
+import acavailhez.optget.casts.CastException;
 import acavailhez.optget.casts.CastMode;
+import acavailhez.optget.casts.CastRegistry;
+import acavailhez.optget.casts.Converter;
+import acavailhez.optget.casts.DoubleCast;
+import acavailhez.optget.casts.EnumCast;
+import acavailhez.optget.casts.FloatCast;
 import acavailhez.optget.casts.IntegerCast;
+import acavailhez.optget.casts.LongCast;
+import acavailhez.optget.metrics.OptGetMetrics;
+import acavailhez.optget.wraps.MapOptGet;
+import org.jetbrains.annotations.NotNull;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
 public class CastTests extends AbstractTests {
     @Test
     public void testInteger() throws Exception {
@@ -22,5 +42,244 @@ public class CastTests extends AbstractTests {
         Assert.assertEquals(ONE, castor.cast("1.9", CastMode.UNSAFE_BEST_EFFORT));
     }
 
+    @Test
+    public void testAddCastIsLocal() throws Exception {
+        MapOptGet custom = new MapOptGet(Map.of("a", "1"));
+        MapOptGet standard = new MapOptGet(Map.of("a", "1"));
+        custom.addCast(new AbstractCast<Integer>() {
+            @Override
+            public @NotNull Integer cast(@NotNull Object unknown, @NotNull CastMode mode) {
+                return 42;
+            }
+
+            @Override
+            public @NotNull Class<Integer> getCastClass() {
+                return Integer.class;
+            }
+        });
+        Assert.assertEquals(42, custom.getInt("a"));
+        Assert.assertEquals(1, standard.getInt("a"));
+    }
+
+    @Test
+    public void testCastChain() throws Exception {
+        // no direct cast from StringBuilder to Long, goes through String
+        MapOptGet map = new MapOptGet(Map.of("a", new StringBuilder("12")));
+        Assert.assertEquals(Long.valueOf(12), map.get("a", Long.class));
+        Assert.assertEquals(12, map.getInt("a"));
+    }
+
+    @Test
+    public void testPrimitives() throws Exception {
+        MapOptGet map = new MapOptGet(Map.of("a", 2.7d, "b", "3", "c", true));
+        Assert.assertEquals(2, map.getInt("a"));
+        Assert.assertEquals(2L, map.getLong("a"));
+        Assert.assertEquals(2.7f, map.getFloat("a"), 0.0f);
+        Assert.assertEquals(3.0d, map.getDouble("b"), 0.0d);
+        Assert.assertTrue(map.getBool("c"));
+
+        // primitive defaults
+        Assert.assertEquals(5, map.getInt("missing", 5));
+        Assert.assertEquals(2, map.getInt("a", 5));
+        Assert.assertFalse(map.getBoolean("missing", false));
 
+        try {
+            map.getInt("missing");
+            assert false;
+        } catch (IllegalArgumentException ex) {
+        }
+    }
+
+    @Test
+    public void testCleanParsing() throws Exception {
+        // the single pass parser must behave like the regex based cleaning
+        String[] inputs = {"1 234", " 42 ", "-17", "- 5", "1-2", "--1", "", "abc", "3.5", "0.05", "-0", "1e3", "1E3",
+                "2.5e-3", "-.5", ".", "1.", "e5", "1e", "1e-", "12.5kg", "$1,000.50", "9223372036854775807",
+                "9223372036854775808", "-9223372036854775808", "0.1", "123456789012345678901234567890", "1e400", "7e-400",
+                "4.35", "0.30000000000000004", "3.4028235e38"};
+        for (String input : inputs) {
+            String cleaned = input.replaceAll("[^0-9.e-]", "");
+            assertSameCast(input, new LongCast(), CastMode.CLEAN, Long::valueOf, cleaned);
+            assertSameCast(input, new IntegerCast(), CastMode.CLEAN, Integer::valueOf, cleaned);
+            assertSameCast(input, new DoubleCast(), CastMode.CLEAN, Double::valueOf, cleaned);
+            assertSameCast(input, new FloatCast(), CastMode.CLEAN, Float::valueOf, cleaned);
+            assertSameCast(input, new IntegerCast(), CastMode.UNSAFE_BEST_EFFORT, it -> Double.valueOf(it).intValue(), cleaned);
+        }
+        Assert.assertEquals(1234, new IntegerCast().castToInt("1 234", CastMode.CLEAN));
+        Assert.assertEquals(42L, new LongCast().castToLong(" 42 ", CastMode.CLEAN));
+    }
+
+    private static void assertSameCast(String input, AbstractCast<?> castor, CastMode mode, Function<String, Object> expected, String cleaned) {
+        Object expectedValue;
+        try {
+            expectedValue = expected.apply(cleaned);
+        } catch (NumberFormatException e) {
+            expectedValue = null;
+        }
+        try {
+            Object value = castor.cast(input, mode);
+            Assert.assertEquals(input, expectedValue, value);
+        } catch (CastException e) {
+            Assert.assertNull(input, expectedValue);
+        }
+    }
+
+    @Test
+    public void testEnum() throws Exception {
+        Assert.assertEquals(Bootstrap4Color.PRIMARY, EnumCast.castToEnum("PRIMARY", Bootstrap4Color.class));
+        Assert.assertEquals(Bootstrap4Color.PRIMARY, EnumCast.castToEnum("primary", Bootstrap4Color.class));
+        Assert.assertEquals(Bootstrap4Color.DANGER, EnumCast.castToEnum(Bootstrap4Color.DANGER, Bootstrap4Color.class));
+        try {
+            EnumCast.castToEnum("purple", Bootstrap4Color.class);
+            assert false;
+        } catch (CastException ex) {
+        }
+    }
+
+    @Test
+    public void testCastModePerCall() throws Exception {
+        MapOptGet map = new MapOptGet(Map.of("padded", " 12 ", "number", 12.7));
+
+        Assert.assertEquals(Integer.valueOf(12), map.get("padded", Integer.class));
+        Assert.assertNull(map.opt("missing", Integer.class, CastMode.STRICT));
+        try {
+            map.get("padded", Integer.class, CastMode.STRICT);
+            assert false;
+        } catch (CastException ex) {
+        }
+        // the mode of the object is left as it was
+        Assert.assertEquals(Integer.valueOf(12), map.get("number", Integer.class));
+        Assert.assertEquals(Double.valueOf(12.7), map.get("number", Double.class, CastMode.STRICT));
+    }
+
+    @Test
+    public void testFreezeConfig() throws Exception {
+        MapOptGet map = new MapOptGet(Map.of("padded", " 12 "));
+        map.setCastMode(CastMode.PARSE);
+        map.freezeConfig();
+        assert map.isConfigFrozen();
+
+        try {
+            map.setCastMode(CastMode.CLEAN);
+            assert false;
+        } catch (IllegalStateException ex) {
+        }
+        try {
+            map.addCast(new LongCast());
+            assert false;
+        } catch (IllegalStateException ex) {
+        }
+        // still PARSE, which does not trim
+        try {
+            map.getInt("padded");
+            assert false;
+        } catch (CastException ex) {
+        }
+        Assert.assertEquals(Integer.valueOf(12), map.get("padded", Integer.class, CastMode.CLEAN));
+
+        // shared between threads as is
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                results.add(executor.submit(() -> map.get("padded", Integer.class, CastMode.CLEAN)));
+            }
+            for (Future<Integer> result : results) {
+                Assert.assertEquals(Integer.valueOf(12), result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testConcurrentSetters() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            for (int i = 0; i < 200; i++) {
+                MapOptGet map = new MapOptGet(Map.of("padded", " 12 "));
+                CountDownLatch start = new CountDownLatch(1);
+                // setters that lose the race to the freeze throw, those that win must not undo it
+                Future<?> mode = executor.submit(() -> {
+                    start.await();
+                    try {
+                        map.setCastMode(CastMode.PARSE);
+                    } catch (IllegalStateException ex) {
+                    }
+                    return null;
+                });
+                Future<?> threshold = executor.submit(() -> {
+                    start.await();
+                    try {
+                        map.setParallelThreshold(7);
+                    } catch (IllegalStateException ex) {
+                    }
+                    return null;
+                });
+                Future<?> freeze = executor.submit(() -> {
+                    start.await();
+                    map.freezeConfig();
+                    return null;
+                });
+                start.countDown();
+                mode.get();
+                threshold.get();
+                freeze.get();
+                Assert.assertTrue(map.isConfigFrozen());
+            }
+
+            for (int i = 0; i < 200; i++) {
+                MapOptGet map = new MapOptGet(Map.of("padded", " 12 "));
+                OptGetMetrics metrics = new OptGetMetrics();
+                CountDownLatch start = new CountDownLatch(1);
+                Future<?> mode = executor.submit(() -> {
+                    start.await();
+                    map.setCastMode(CastMode.PARSE);
+                    return null;
+                });
+                Future<?> recording = executor.submit(() -> {
+                    start.await();
+                    map.setMetrics(metrics);
+                    return null;
+                });
+                start.countDown();
+                mode.get();
+                recording.get();
+                // neither update is lost
+                Assert.assertSame(metrics, map.getMetrics());
+                try {
+                    map.getInt("padded");
+                    assert false;
+                } catch (CastException ex) {
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testConverterCache() throws Exception {
+        // resolved once, then the same converter is returned
+        Converter<Long> converter = CastRegistry.DEFAULT.converter(String.class, Long.class);
+        Assert.assertSame(converter, CastRegistry.DEFAULT.converter(String.class, Long.class));
+        Assert.assertEquals((Object) 12L, converter.convert("12", CastMode.CLEAN));
+
+        // each registry caches its own converters, even for a pair of classes already resolved by another one
+        CastRegistry custom = CastRegistry.DEFAULT.with(new AbstractCast<Long>() {
+            @Override
+            public @NotNull Long cast(@NotNull Object unknown, @NotNull CastMode mode) {
+                return 7L;
+            }
+
+            @Override
+            public @NotNull Class<Long> getCastClass() {
+                return Long.class;
+            }
+        });
+        Assert.assertEquals((Object) 7L, custom.converter(String.class, Long.class).convert("12", CastMode.CLEAN));
+        Assert.assertNotSame(converter, custom.converter(String.class, Long.class));
+        Assert.assertEquals((Object) 12L, CastRegistry.DEFAULT.converter(String.class, Long.class).convert("12", CastMode.CLEAN));
+        Assert.assertEquals(Bootstrap4Color.DANGER, custom.converter(String.class, Bootstrap4Color.class).convert("danger", CastMode.CLEAN));
+    }
 }
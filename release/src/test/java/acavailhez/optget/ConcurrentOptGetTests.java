@@ -0,0 +1,94 @@
+package acavailhez.optget;
+
+import acavailhez.optget.wraps.ConcurrentOptGet;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class ConcurrentOptGetTests extends AbstractTests {
+
+    @Test
+    public void paths() throws Exception {
+        ConcurrentOptGet optGet = new ConcurrentOptGet(Map.of("list", List.of(Map.of("a", "1"), "2")));
+        assert optGet.get("list") instanceof CopyOnWriteArrayList;
+        assert optGet.get("list.0") instanceof ConcurrentHashMap;
+
+        Assert.assertNull(optGet.put("stats.requests", 1));
+        Assert.assertEquals(1, optGet.getInt("stats.requests"));
+        Assert.assertEquals(1, optGet.putIfAbsent("stats.requests", 2));
+        Assert.assertNull(optGet.putIfAbsent("stats.errors", 0));
+        Assert.assertEquals(3, optGet.compute("stats.requests", (key, value) -> (Integer) value + 2));
+        Assert.assertEquals("stats.new", optGet.computeIfAbsent("stats.new", key -> key));
+        Assert.assertNull(optGet.computeIfPresent("stats.missing", (key, value) -> value));
+
+        Assert.assertEquals(2L, optGet.addLong("list.0.a", 1));
+        Assert.assertEquals(3L, optGet.incrementLong("list.1"));
+        Assert.assertEquals(2L, optGet.put("list.0.a", "3"));
+        Assert.assertEquals("3", optGet.getString("list.0.a"));
+
+        // updates of objects and lists both return the copy that was stored
+        Object computed = optGet.compute("list.1", (key, value) -> Map.of("b", "4"));
+        assert computed instanceof ConcurrentHashMap;
+        Assert.assertSame(computed, optGet.get("list.1"));
+        Object present = optGet.computeIfPresent("list.1", (key, value) -> List.of("5"));
+        assert present instanceof CopyOnWriteArrayList;
+        Assert.assertSame(present, optGet.get("list.1"));
+        Object absent = optGet.computeIfAbsent("stats.map", key -> Map.of("c", "6"));
+        Assert.assertSame(absent, optGet.get("stats.map"));
+
+        Assert.assertEquals(0, optGet.remove("stats.errors"));
+        Assert.assertNull(optGet.remove("missing.errors"));
+        // keys other than String and OptPath are not paths
+        Assert.assertNull(optGet.put(1.5, "x"));
+        Assert.assertEquals("x", optGet.get(1.5));
+        assert !optGet.containsKey("1");
+        Assert.assertEquals(1L, optGet.incrementLong(7));
+        Assert.assertEquals("x", optGet.remove(1.5));
+
+        try {
+            optGet.put("list.5", 1);
+            assert false;
+        } catch (IndexOutOfBoundsException ex) {
+        }
+        try {
+            optGet.put("stats.requests.x", 1);
+            assert false;
+        } catch (IllegalArgumentException ex) {
+        }
+    }
+
+    @Test
+    public void increments() throws Exception {
+        ConcurrentOptGet optGet = new ConcurrentOptGet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10000; i++) {
+                        optGet.incrementLong("counters.total");
+                        optGet.incrementLong("counters.thread" + (thread % 2));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdown();
+        }
+        Assert.assertEquals(80000L, optGet.getLong("counters.total"));
+        Assert.assertEquals(40000L, optGet.getLong("counters.thread0"));
+        Assert.assertEquals(40000L, optGet.getLong("counters.thread1"));
+    }
+}
@@ -0,0 +1,72 @@
+package acavailhez.optget;
+
+import acavailhez.optget.casts.CastException;
+import acavailhez.optget.wraps.MapOptGet;
+import acavailhez.optget.wraps.ObjectWrapperOptGet;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public class EventsTests extends AbstractTests {
+    @Test
+    public void recorded() throws Exception {
+        MapOptGet map = new MapOptGet(Map.of("a", Map.of("number", "12", "word", "two")));
+        ObjectWrapperOptGet wrapper = new ObjectWrapperOptGet(new ObjectWrapperOptGetTests.Wrapped());
+
+        Path file = Files.createTempFile("optget", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("acavailhez.optget.Lookup").withThreshold(Duration.ZERO);
+            recording.enable("acavailhez.optget.CastFailure");
+            recording.enable("acavailhez.optget.Coercion").withThreshold(Duration.ZERO);
+            recording.start();
+
+            // recorded calls stay out of assert statements, which do not run without -ea
+            int number = map.getInt("a.number");
+            assert number == 12;
+            try {
+                map.getLong("a.word");
+                assert false;
+            } catch (CastException ex) {
+            }
+            wrapper.get("publicProperty");
+
+            recording.stop();
+            recording.dump(file);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            List<RecordedEvent> lookups = byName(events, "acavailhez.optget.Lookup");
+            Assert.assertEquals(3, lookups.size());
+            Assert.assertEquals("a.number", lookups.get(0).getString("path"));
+            Assert.assertEquals(MapOptGet.class.getName(), lookups.get(0).getClass("backend").getName());
+
+            List<RecordedEvent> failures = byName(events, "acavailhez.optget.CastFailure");
+            Assert.assertEquals(1, failures.size());
+            Assert.assertEquals("a.word", failures.get(0).getString("path"));
+            Assert.assertEquals("java.lang.Long", failures.get(0).getClass("targetType").getName());
+            Assert.assertEquals("CLEAN", failures.get(0).getString("castMode"));
+
+            List<RecordedEvent> coercions = byName(events, "acavailhez.optget.Coercion");
+            Assert.assertEquals(List.of("parse", "reflection"), coercions.stream().map(it -> it.getString("kind")).collect(Collectors.toList()));
+            Assert.assertEquals("int", coercions.get(0).getClass("targetType").getName());
+            Assert.assertEquals("publicProperty", coercions.get(1).getString("path"));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static List<RecordedEvent> byName(final List<RecordedEvent> events, final String name) {
+        return events.stream()
+                .filter(it -> it.getEventType().getName().equals(name))
+                .sorted((a, b) -> a.getStartTime().compareTo(b.getStartTime()))
+                .collect(Collectors.toList());
+    }
+}
@@ -1,5 +1,7 @@
 package acavailhez.optget;
 
+import acavailhez.optget.casts.CastException;
+import acavailhez.optget.views.CollectionMode;
 import acavailhez.optget.wraps.MapOptGet;
 import com.google.gson.Gson;
 import org.junit.Assert;
@@ -121,6 +123,31 @@ public class GetOptTests extends AbstractTests {
         assert map2.size() == 3;
         assert map2.get("2").equals("two");
 
+        // breaking change: the shortcuts are read-only views that cast when read,
+        // getMap(key, keyClass, valueClass) still returns a mutable copy cast up front
+        try {
+            map2.put("4", "four");
+            assert false;
+        } catch (UnsupportedOperationException ex) {
+        }
+        Map<String, String> eager = optget.getMap("a", String.class, String.class);
+        eager.put("4", "four");
+        Map<String, Integer> lazyInts = optget.getMapOfStringToInteger("a");
+        try {
+            lazyInts.get("1");
+            assert false;
+        } catch (CastException ex) {
+        }
+
+        Map<String, String> map6 = optget.getMap("a", String.class, String.class, CollectionMode.LAZY_MEMOIZED);
+        assert map6.containsKey("3");
+        assert !map6.containsKey(3);
+        assert map6.get("1") == map6.get("1");
+        assert map6.equals(Map.of("1", "one", "2", "two", "3", "three"));
+
+        optget.setParallelThreshold(2);
+        assert optget.getMap("a", String.class, String.class, CollectionMode.PARALLEL).equals(map6);
+
         OptGet map3 = optget.getOptGet("a");
         assert map3.getString(1).equals("one");
 
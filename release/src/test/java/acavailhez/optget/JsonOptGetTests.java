@@ -0,0 +1,163 @@
+package acavailhez.optget;
+
+import acavailhez.optget.json.JsonException;
+import acavailhez.optget.json.JsonOptGet;
+import acavailhez.optget.paths.OptPath;
+import acavailhez.optget.wraps.MapOptGet;
+import com.google.gson.Gson;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class JsonOptGetTests extends AbstractTests {
+
+    private static final String JSON = """
+            {
+                "string": "value",
+                "escaped": "a\\"b\\\\c\\n\\u00e9",
+                "unicode": "h\u00e9llo \u2713",
+                "int": 42,
+                "negative": -7,
+                "double": 1.5e3,
+                "big": 123456789012345678901234567890,
+                "true": true,
+                "false": false,
+                "null": null,
+                "nested": {"a": {"b": [1, {"c": "deep"}, [2, 3]]}, "skipped": {"x": "}]{["}},
+                "list": ["0", "1", "2"],
+                "empty": {},
+                "emptyList": [],
+                "a\\"key": "quoted"
+            }
+            """;
+
+    @Test
+    public void testSameAsGson() throws Exception {
+        OptGet gson = new MapOptGet(new Gson().fromJson(JSON, Map.class));
+        for (OptGet json : Arrays.asList(new JsonOptGet(JSON), new JsonOptGet(JSON.getBytes(StandardCharsets.UTF_8)))) {
+            for (String key : Arrays.asList("string", "escaped", "unicode", "true", "false", "nested.a.b.1.c", "list.2", "a\"key")) {
+                Assert.assertEquals(key, gson.opt(key), json.opt(key));
+            }
+            for (String key : Arrays.asList("int", "negative", "double", "big", "nested.a.b.0", "nested.a.b.2.1")) {
+                Assert.assertEquals(key, gson.getDouble(key), json.getDouble(key), 0);
+            }
+            Assert.assertNull(json.opt("null"));
+            Assert.assertNull(json.opt("missing"));
+            Assert.assertNull(json.opt("nested.a.missing"));
+            Assert.assertNull(json.opt("nested.a.b.3"));
+            Assert.assertEquals(gson.keySet(), json.keySet());
+            Assert.assertEquals(gson.size(), json.size());
+            Assert.assertEquals(Arrays.asList(0, 1, 2), json.getList("list", Integer.class));
+            assert json.getMap("empty", String.class, String.class).isEmpty();
+            assert json.getList("emptyList", String.class).isEmpty();
+        }
+    }
+
+    @Test
+    public void testTypes() throws Exception {
+        JsonOptGet json = new JsonOptGet(JSON);
+        Assert.assertEquals(42L, json.get("int"));
+        Assert.assertEquals(1500.0, json.get("double"));
+        Assert.assertEquals(Boolean.TRUE, json.get("true"));
+        assert json.get("nested.a") instanceof JsonOptGet;
+        assert json.get("list") instanceof List;
+        Assert.assertEquals(Set.of("a", "skipped"), json.getOptGet("nested").keySet());
+        // nested nodes are kept, with what they scanned
+        assert json.get("nested.a") == json.get("nested.a");
+    }
+
+    @Test
+    public void testLazy() throws Exception {
+        // only what is read has to be valid, parsed paths skip the lookup of "b.1" as a key
+        JsonOptGet json = new JsonOptGet("{\"a\": 1, \"b\": [1, 2, {\"c\": oops}], \"c\": nope");
+        Assert.assertEquals(1, json.getInt("a"));
+        Assert.assertEquals(2, json.getInt(OptPath.of("b.1")));
+        try {
+            json.get(OptPath.of("b.2.c"));
+            assert false;
+        } catch (JsonException ex) {
+            assert ex.getMessage().contains("expected a value");
+        }
+        try {
+            json.get("c");
+            assert false;
+        } catch (JsonException ex) {
+        }
+        // an index is checked without reading the rest of the array
+        JsonOptGet list = new JsonOptGet("{\"big\": [1, 2, oops]}");
+        Assert.assertEquals(2, list.getInt(OptPath.of("big.1")));
+        Assert.assertEquals(2, list.getInt("big.1"));
+        try {
+            list.opt(OptPath.of("big.3"));
+            assert false;
+        } catch (JsonException ex) {
+        }
+        try {
+            new JsonOptGet("[1, 2]");
+            assert false;
+        } catch (JsonException ex) {
+            Assert.assertEquals(0, ex.getPosition());
+        }
+    }
+
+    @Test
+    public void testIteration() throws Exception {
+        JsonOptGet json = new JsonOptGet("{\"a\": 1, \"b\": \"two\", \"c\": [3]}");
+        Assert.assertEquals(Arrays.asList(1L, "two", List.of(3L)), new ArrayList<>(json.values()));
+        Map<Object, Object> entries = new LinkedHashMap<>();
+        json.forEach(entries::put);
+        Assert.assertEquals(Arrays.asList("a", "b", "c"), new ArrayList<>(entries.keySet()));
+        Assert.assertEquals(json.values().size(), json.entrySet().size());
+        Assert.assertEquals(Arrays.asList(1L, "two", List.of(3L)), json.query("*").collect(Collectors.toList()));
+
+        // members are read by index as the iteration goes, the ones before an error are read
+        Iterator<Map.Entry<Object, Object>> iterator = new JsonOptGet("{\"a\": 1, \"b\": oops}").entrySet().iterator();
+        Assert.assertEquals("a", iterator.next().getKey());
+        try {
+            iterator.next();
+            assert false;
+        } catch (JsonException ex) {
+        }
+    }
+
+    @Test
+    public void testMapped() throws Exception {
+        StringBuilder builder = new StringBuilder("{\"items\": [");
+        for (int i = 0; i < 2000; i++) {
+            builder.append(i == 0 ? "" : ",")
+                    .append("{\"id\": ").append(i)
+                    .append(", \"name\": \"item \\\"").append(i).append("\\\" ]}[{\"")
+                    .append(", \"tags\": [\"a\", \"b\", {\"c\": [").append(i).append("]}]}");
+        }
+        builder.append("], \"last\": {\"value\": \"end\"}}");
+        String text = builder.toString();
+
+        Path file = Files.createTempFile("optget", ".json");
+        try {
+            Files.writeString(file, text);
+            JsonOptGet mapped = JsonOptGet.map(file);
+            OptGet gson = new MapOptGet(new Gson().fromJson(text, Map.class));
+
+            Assert.assertEquals("end", mapped.get("last.value"));
+            Assert.assertEquals(2000, mapped.getList("items").size());
+            for (int i = 0; i < 2000; i += 97) {
+                Assert.assertEquals(gson.get("items." + i + ".name"), mapped.get("items." + i + ".name"));
+                Assert.assertEquals(i, mapped.getInt("items." + i + ".tags.2.c.0"));
+            }
+            Assert.assertEquals(new JsonOptGet(text).keySet(), mapped.keySet());
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
@@ -1,11 +1,24 @@
 package acavailhez.optget;
 
+import acavailhez.optget.casts.CastException;
+import acavailhez.optget.metrics.OptGetMetrics;
+import acavailhez.optget.views.CollectionMode;
+import acavailhez.optget.wraps.ListOptGet;
 import acavailhez.optget.wraps.MapOptGet;
 import com.google.gson.Gson;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.Spliterator;
 
 public class ListOptTests extends AbstractTests {
     @Test
@@ -33,6 +46,17 @@ public class ListOptTests extends AbstractTests {
         Assert.assertEquals("j", map.get("a.5.2"));
     }
 
+    @Test
+    public void testNonIndexKeys() throws Exception {
+        ListOptGet list = new ListOptGet(Arrays.asList("0", new MapOptGet(Map.of("c", "test"))));
+        Assert.assertNull(list.opt("a"));
+        Assert.assertNull(list.opt("-1"));
+        Assert.assertNull(list.opt("2"));
+        Assert.assertEquals("0", list.opt(" 0 "));
+        Assert.assertEquals("test", list.get("1.c"));
+        assert !list.containsKey("1.c");
+    }
+
     @Test
     public void testSubOptGet() throws Exception {
         Map json = new Gson().fromJson("""
@@ -49,4 +73,132 @@ public class ListOptTests extends AbstractTests {
         Assert.assertEquals(1, map.getListOfOptGet("a").get(0).getInt("b.c"));
     }
 
+    @Test
+    public void testLazyList() throws Exception {
+        MapOptGet map = new MapOptGet(Map.of(
+                "a", new ArrayList<Object>(Arrays.asList("1", 2.0, "three")),
+                "b", new LinkedList<Object>(Arrays.asList(1, 2, 3))));
+
+        // elements are only cast when read
+        List<Integer> lazy = map.getListOfInt("a");
+        Assert.assertEquals(3, lazy.size());
+        Assert.assertEquals(Integer.valueOf(1), lazy.get(0));
+        Assert.assertEquals(Integer.valueOf(2), lazy.get(1));
+        try {
+            lazy.get(2);
+            assert false;
+        } catch (CastException ex) {
+        }
+
+        List<Long> memoized = map.getList("b", Long.class, CollectionMode.LAZY_MEMOIZED);
+        assert memoized instanceof RandomAccess;
+        assert memoized.get(2) == memoized.get(2);
+
+        List<Long> eager = map.getList("b", Long.class);
+        Assert.assertEquals(Arrays.asList(1L, 2L, 3L), eager);
+        // breaking change: the shortcuts are read-only views, getList(key, class) still returns a mutable copy
+        eager.add(4L);
+        try {
+            lazy.add(4);
+            assert false;
+        } catch (UnsupportedOperationException ex) {
+        }
+    }
+
+    @Test
+    public void testPrimitiveArrays() throws Exception {
+        Map json = new Gson().fromJson("{a: [1.0, 2.5, \"3\"]}", Map.class);
+        MapOptGet map = new MapOptGet(json);
+
+        Assert.assertArrayEquals(new int[]{1, 2, 3}, map.getIntArray("a"));
+        Assert.assertArrayEquals(new long[]{1, 2, 3}, map.getLongArray("a"));
+        Assert.assertArrayEquals(new double[]{1.0, 2.5, 3.0}, map.getDoubleArray("a"), 0.0);
+        Assert.assertEquals(6, map.getIntStream("a").sum());
+        Assert.assertEquals(6.5, map.getDoubleStream("a").sum(), 0.0);
+        assert map.optIntArray("missing") == null;
+    }
+
+    @Test
+    public void testParallelList() throws Exception {
+        List<Object> source = new ArrayList<>();
+        for (int i = 0; i < 100000; i++) {
+            source.add(String.valueOf(i));
+        }
+        MapOptGet map = new MapOptGet(Map.of("a", source));
+        map.setParallelThreshold(1000);
+
+        List<Integer> casted = map.getList("a", Integer.class, CollectionMode.PARALLEL);
+        Assert.assertEquals(100000, casted.size());
+        for (int i = 0; i < casted.size(); i++) {
+            Assert.assertEquals(Integer.valueOf(i), casted.get(i));
+        }
+
+        // the first failure is reported, whatever the scheduling
+        source.set(70000, "x");
+        source.set(30000, "y");
+        source.set(90000, "z");
+        try {
+            map.getList("a", Integer.class, CollectionMode.PARALLEL);
+            assert false;
+        } catch (CastException ex) {
+            assert ex.getMessage().contains("[y]");
+        }
+    }
+
+    @Test
+    public void testListAsMap() throws Exception {
+        ListOptGet list = new ListOptGet(new ArrayList<>(Arrays.asList("a", "b", "c")));
+
+        Assert.assertEquals(3, list.size());
+        assert list.containsKey(2);
+        assert list.containsKey("1");
+        assert !list.containsKey(3);
+        assert !list.containsKey("x");
+        assert list.containsValue("b");
+        Assert.assertNull(list.opt(3));
+        Assert.assertEquals(Arrays.asList(0, 1, 2), new ArrayList<>(list.keySet()));
+        Assert.assertEquals(Arrays.asList("a", "b", "c"), new ArrayList<>(list.values()));
+
+        int count = 0;
+        for (Map.Entry<Object, Object> entry : list.entrySet()) {
+            Assert.assertEquals(list.get(entry.getKey()), entry.getValue());
+            count++;
+        }
+        Assert.assertEquals(3, count);
+
+        // removes the index, not the value
+        list.put(0, 2);
+        Assert.assertEquals(2, list.remove(0));
+        Assert.assertEquals(Arrays.asList("b", "c"), new ArrayList<>(list.values()));
+    }
+
+    @Test
+    public void testStream() throws Exception {
+        List<Map<String, Object>> features = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            features.add(Map.of("id", String.valueOf(i)));
+        }
+        MapOptGet map = new MapOptGet(Map.of("features", features, "nested", List.of(List.of("a"))));
+
+        Spliterator<OptGet> spliterator = map.stream("features").spliterator();
+        assert spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED);
+        Assert.assertEquals(1000, spliterator.estimateSize());
+
+        Assert.assertEquals(499500, map.stream("features").parallel().mapToInt(it -> it.getInt("id")).sum());
+        Assert.assertEquals(499500, map.stream("features", true).parallel().mapToInt(it -> it.getInt("id")).sum());
+        // wrappers share the configuration of their parent
+        OptGetMetrics metrics = new OptGetMetrics(1);
+        map.setMetrics(metrics);
+        map.stream("features").forEach(it -> it.getString("id"));
+        map.stream("features", true).forEach(it -> it.getString("id"));
+        Assert.assertEquals(2002, metrics.snapshot().lookups());
+
+        // one wrapper per split in flyweight mode
+        Set<OptGet> wrappers = Collections.newSetFromMap(new IdentityHashMap<>());
+        map.stream("features", true).forEach(wrappers::add);
+        Assert.assertEquals(1, wrappers.size());
+
+        Assert.assertEquals("a", map.stream("nested", true).findFirst().get().get("0"));
+        Assert.assertEquals(0, map.stream("missing").count());
+    }
 }
@@ -0,0 +1,55 @@
+package acavailhez.optget;
+
+import acavailhez.optget.casts.CastException;
+import acavailhez.optget.metrics.OptGetMetrics;
+import acavailhez.optget.wraps.MapOptGet;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+
+public class MetricsTests extends AbstractTests {
+    @Test
+    public void counters() throws Exception {
+        MapOptGet map = new MapOptGet(Map.of("number", "12", "word", "two", "list", List.of("1", "2", "3")));
+        OptGetMetrics metrics = new OptGetMetrics(1);
+        map.setMetrics(metrics);
+
+        // counted calls stay out of assert statements, which do not run without -ea
+        int number = map.getInt("number");
+        long longNumber = map.getLong("number");
+        assert number == 12;
+        assert longNumber == 12L;
+        Assert.assertNull(map.opt("missing"));
+        try {
+            map.getInt("word");
+            assert false;
+        } catch (CastException ex) {
+        }
+        try {
+            map.getString("missing");
+            assert false;
+        } catch (IllegalArgumentException ex) {
+        }
+        map.getList("list", Integer.class);
+
+        OptGetMetrics.Snapshot snapshot = metrics.snapshot();
+        Assert.assertEquals(6, snapshot.lookups());
+        Assert.assertEquals(2, snapshot.misses());
+        Assert.assertEquals(1, snapshot.nullValues());
+        Assert.assertEquals(1, snapshot.castExceptions());
+        OptGetMetrics.CastPair stringToInteger = new OptGetMetrics.CastPair(String.class, Integer.class);
+        // getInt twice and the 3 elements of the list
+        Assert.assertEquals(Long.valueOf(5), snapshot.casts().get(stringToInteger));
+        Assert.assertEquals(Long.valueOf(1), snapshot.castFailures().get(stringToInteger));
+        Assert.assertEquals(Long.valueOf(1), snapshot.casts().get(new OptGetMetrics.CastPair(String.class, Long.class)));
+        Assert.assertEquals(6, snapshot.sampledLookups());
+        assert snapshot.latencyPercentile(0.99) > 0;
+
+        // nothing is recorded once removed
+        map.setMetrics(null);
+        map.getInt("number");
+        Assert.assertEquals(6, metrics.snapshot().lookups());
+    }
+}
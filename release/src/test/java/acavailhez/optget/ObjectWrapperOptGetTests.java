@@ -4,6 +4,8 @@ import acavailhez.optget.casts.CastMode;
 import acavailhez.optget.wraps.ObjectWrapperOptGet;
 import org.junit.Test;
 
+import java.util.Set;
+
 public class ObjectWrapperOptGetTests extends AbstractTests {
     @Test
     public void wrap() throws Exception {
@@ -16,6 +18,12 @@ public class ObjectWrapperOptGetTests extends AbstractTests {
         assert wrapper.opt("missing") == null;
 
         assert wrapper.get("nested.publicField").equals(10);
+        assert wrapper.get("PublicProperty").equals("publicProperty");
+        assert wrapper.keySet().equals(Set.of("publicProperty", "nested", "publicField"));
+        assert wrapper.size() == 3;
+        assert wrapper.containsKey("nested");
+        assert !wrapper.containsKey("privateField");
+        assert wrapper.entrySet().size() == 3;
 
         try {
             wrapper.get("privateField");
@@ -0,0 +1,135 @@
+package acavailhez.optget;
+
+import acavailhez.optget.paths.OptPath;
+import acavailhez.optget.paths.OptPaths;
+import acavailhez.optget.wraps.MapOptGet;
+import com.google.gson.Gson;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class OptPathTests extends AbstractTests {
+    @Test
+    public void compile() throws Exception {
+        OptPath path = OptPath.compile("features.1.geometry");
+        Assert.assertEquals(3, path.size());
+        Assert.assertEquals("features", path.segment(0));
+        Assert.assertEquals(OptPath.NOT_AN_INDEX, path.index(0));
+        Assert.assertEquals("1", path.segment(1));
+        Assert.assertEquals(1, path.index(1));
+
+        // same rules as String.split("\\.")
+        Assert.assertEquals(3, OptPath.compile("a..b").size());
+        Assert.assertEquals(2, OptPath.compile("a.b.").size());
+        Assert.assertEquals(1, OptPath.compile("").size());
+        Assert.assertEquals(0, OptPath.compile("..").size());
+        Assert.assertEquals(OptPath.NOT_AN_INDEX, OptPath.compile("99999999999").index(0));
+
+        // cached
+        assert OptPath.of("a.b.c") == OptPath.of("a.b.c");
+    }
+
+    @Test
+    public void lookup() throws Exception {
+        Map json = new Gson().fromJson("""
+                {
+                    features: [
+                      {geometry: {type: "Point"}}
+                    ]
+                }
+                """, Map.class);
+        MapOptGet map = new MapOptGet(json);
+
+        OptPath path = OptPath.compile("features.0.geometry.type");
+        Assert.assertEquals("Point", map.get(path));
+        Assert.assertEquals("Point", map.get("features.0.geometry.type"));
+        assert map.opt(OptPath.compile("features.1.geometry")) == null;
+        assert map.opt("features.first.geometry") == null;
+        assert map.get("features.0.geometry", OptGet.class).getString("type").equals("Point");
+    }
+
+    @Test
+    public void all() throws Exception {
+        MapOptGet map = new MapOptGet(new Gson().fromJson("""
+                {
+                    properties: {name: "point", size: "12", tags: ["a", "b"]},
+                    geometry: {coordinates: [1.5, 2.5]}
+                }
+                """, Map.class));
+
+        OptPaths paths = OptPaths.compile("properties.name", "properties.size", "properties.tags.1",
+                "geometry.coordinates.0", "properties.missing", "properties.name");
+        // root, properties, name, size, tags, 1, geometry, coordinates, 0, missing
+        Assert.assertEquals(10, paths.nodes());
+
+        Object[] values = map.optAll(paths, String.class, Integer.class, String.class, Double.class, String.class, String.class);
+        Assert.assertArrayEquals(new Object[]{"point", 12, "b", 1.5, null, "point"}, values);
+
+        Assert.assertArrayEquals(new Object[]{"point", 2.5}, map.getAll("properties.name", "geometry.coordinates.1"));
+        try {
+            map.getAll("properties.name", "properties.missing");
+            assert false;
+        } catch (IllegalArgumentException ex) {
+            assert ex.getMessage().contains("properties.missing");
+        }
+        try {
+            map.optAll(paths, String.class);
+            assert false;
+        } catch (IllegalArgumentException ex) {
+        }
+    }
+
+    @Test
+    public void query() throws Exception {
+        MapOptGet map = new MapOptGet(new Gson().fromJson("""
+                {
+                    features: [
+                      {id: "1", geometry: {type: "Point"}},
+                      {id: "2", geometry: {type: "Line"}, properties: {id: "3"}},
+                      {id: "4"}
+                    ]
+                }
+                """, Map.class));
+
+        Assert.assertEquals(List.of("Point", "Line"), map.query("features.*.geometry.type").toList());
+        Assert.assertEquals(List.of(1, 2, 3, 4), map.query("**.id", Integer.class).toList());
+        Assert.assertEquals(List.of("Point", "Line"), map.query("features.**.type").toList());
+        Assert.assertEquals(3, map.query("features.*").count());
+        Assert.assertEquals(List.of("Line"), map.query(OptPath.of("features.1.*.type")).toList());
+        assert map.query("features.*.missing").findAny().isEmpty();
+        // no segment goes through a string
+        assert map.query("features.*.id.*").findAny().isEmpty();
+
+        // values that are not objects or lists are leaves, even when they could be wrapped
+        UUID uuid = UUID.randomUUID();
+        MapOptGet tree = new MapOptGet(Map.of("a", Map.of("id", uuid, "b", List.of(Map.of("id", "2"))), "c", uuid));
+        Assert.assertEquals(Set.of(uuid, "2"), tree.query("**.id").collect(Collectors.toSet()));
+        Assert.assertEquals(List.of(uuid), tree.query("*.id").toList());
+        assert tree.query("c.*").findAny().isEmpty();
+        assert tree.query("c.mostSignificantBits").findAny().isEmpty();
+    }
+
+    @Test
+    public void parallelQuery() throws Exception {
+        List<Map<String, Object>> features = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            features.add(Map.of("properties", Map.of("id", i, "tags", List.of("a", "b"))));
+        }
+        MapOptGet map = new MapOptGet(Map.of("features", features));
+
+        Spliterator<Object> spliterator = map.query("features.*.properties.id").spliterator();
+        assert spliterator.trySplit() != null;
+
+        List<Integer> ids = map.query("features.*.properties.id", Integer.class).parallel().toList();
+        Assert.assertEquals(IntStream.range(0, 10000).boxed().toList(), ids);
+        Assert.assertEquals(20000, map.query("features.*.properties.tags.*").parallel().count());
+    }
+}
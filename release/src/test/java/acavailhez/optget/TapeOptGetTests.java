@@ -0,0 +1,124 @@
+package acavailhez.optget;
+
+import acavailhez.optget.tape.TapeOptGet;
+import acavailhez.optget.wraps.ListOptGet;
+import acavailhez.optget.wraps.MapOptGet;
+import com.google.gson.Gson;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class TapeOptGetTests extends AbstractTests {
+
+    private static final String JSON = """
+            {
+                "string": "value",
+                "unicode": "h\\u00e9llo \\u2713",
+                "h\\u00e9": "accented key",
+                "zebra": 1,
+                "double": 1.5,
+                "true": true,
+                "null": null,
+                "nested": {"a": {"b": [1, {"c": "deep"}, [2, 3]]}},
+                "list": ["0", "1", "2"],
+                "empty": {}
+            }
+            """;
+
+    @Test
+    public void testEncode() throws Exception {
+        OptGet source = new MapOptGet(new Gson().fromJson(JSON, Map.class));
+        TapeOptGet tape = TapeOptGet.encode(source);
+
+        for (String key : Arrays.asList("string", "unicode", "h\u00e9", "double", "true", "nested.a.b.1.c", "list.2", "nested.a.b.2.1")) {
+            Assert.assertEquals(key, source.opt(key), tape.opt(key));
+        }
+        Assert.assertNull(tape.opt("null"));
+        Assert.assertNull(tape.opt("missing"));
+        Assert.assertNull(tape.opt("nested.a.b.3"));
+        Assert.assertEquals(source.keySet(), tape.keySet());
+        Assert.assertEquals(10, tape.size());
+        assert tape.containsKey("null");
+        assert tape.getMap("empty").isEmpty();
+        Assert.assertEquals(Arrays.asList(0, 1, 2), tape.getList("list", Integer.class));
+        Assert.assertEquals(1, tape.getInt("zebra"));
+    }
+
+    @Test
+    public void testTypes() throws Exception {
+        Map<Object, Object> map = new HashMap<>();
+        map.put("int", 42);
+        map.put("negative", Long.MIN_VALUE);
+        map.put("float", 0.5f);
+        map.put("char", 'c');
+        map.put("enum", Bootstrap4Color.PRIMARY);
+        map.put(7, "key that is not a String");
+        TapeOptGet tape = TapeOptGet.encode(map);
+
+        Assert.assertEquals(42L, tape.get("int"));
+        Assert.assertEquals(Long.MIN_VALUE, tape.get("negative"));
+        Assert.assertEquals(0.5, tape.get("float"));
+        Assert.assertEquals("c", tape.get("char"));
+        Assert.assertEquals(Bootstrap4Color.PRIMARY, tape.get("enum", Bootstrap4Color.class));
+        Assert.assertEquals("key that is not a String", tape.get(7));
+
+        try {
+            TapeOptGet.encode(Map.of("object", new Object()));
+            assert false;
+        } catch (IllegalArgumentException ex) {
+        }
+        // a wrapped list is an array, but cannot be the root object
+        TapeOptGet wrapped = TapeOptGet.encode(Map.of("list", new ListOptGet(new ArrayList<>(List.of("a", "b")))));
+        assert wrapped.get("list") instanceof List;
+        Assert.assertEquals("b", wrapped.get("list.1"));
+        try {
+            TapeOptGet.encode(new ListOptGet(new ArrayList<>(List.of("a"))));
+            assert false;
+        } catch (IllegalArgumentException ex) {
+        }
+        List<Object> cycle = new ArrayList<>();
+        cycle.add(cycle);
+        try {
+            TapeOptGet.encode(Map.of("cycle", cycle));
+            assert false;
+        } catch (IllegalArgumentException ex) {
+        }
+    }
+
+    @Test
+    public void testWriteAndMap() throws Exception {
+        Map<String, Object> items = new HashMap<>();
+        for (int i = 0; i < 10000; i++) {
+            items.put("item" + i, Map.of("id", i, "tags", List.of("a", "b")));
+        }
+        TapeOptGet tape = TapeOptGet.encode(Map.of("items", items));
+
+        Path file = Files.createTempFile("optget", ".tape");
+        try {
+            tape.write(file);
+            TapeOptGet mapped = TapeOptGet.map(file);
+            Assert.assertEquals(10000, mapped.getMap("items").size());
+            Assert.assertEquals(1234, mapped.getInt("items.item1234.id"));
+            Assert.assertEquals("b", mapped.get("items.item9999.tags.1"));
+            Assert.assertEquals(Set.of("items"), mapped.keySet());
+
+            Files.writeString(file, "not a tape");
+            try {
+                TapeOptGet.map(file);
+                assert false;
+            } catch (IOException ex) {
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
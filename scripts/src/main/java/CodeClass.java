@@ -3,16 +3,24 @@ public class CodeClass {
     public final String className;
     public final String primitiveName;
     public final String alias;
+    // true when OptGet has a cast to the primitive that does not box (toInt, toLong...)
+    public final boolean specialized;
 
     public CodeClass(String className) {
         this.className = className;
         this.primitiveName = null;
         this.alias = className;
+        this.specialized = false;
     }
 
     public CodeClass(String className, String nonNullClassName, String alias) {
+        this(className, nonNullClassName, alias, false);
+    }
+
+    public CodeClass(String className, String nonNullClassName, String alias, boolean specialized) {
         this.className = className;
         this.primitiveName = nonNullClassName;
         this.alias = alias;
+        this.specialized = specialized;
     }
 }
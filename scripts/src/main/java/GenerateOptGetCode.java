@@ -26,14 +26,14 @@ public class GenerateOptGetCode {
         SHORTCUT_CLASSES.add(new CodeClass("String"));
         SHORTCUT_CLASSES.add(new CodeClass("Byte", "byte", "Byte"));
         SHORTCUT_CLASSES.add(new CodeClass("Short", "short", "Short"));
-        SHORTCUT_CLASSES.add(new CodeClass("Integer", "int", "Integer"));
-        SHORTCUT_CLASSES.add(new CodeClass("Integer", "int", "Int"));
-        SHORTCUT_CLASSES.add(new CodeClass("Long", "long", "Long"));
-        SHORTCUT_CLASSES.add(new CodeClass("Float", "float", "Float"));
-        SHORTCUT_CLASSES.add(new CodeClass("Double", "double", "Double"));
+        SHORTCUT_CLASSES.add(new CodeClass("Integer", "int", "Integer", true));
+        SHORTCUT_CLASSES.add(new CodeClass("Integer", "int", "Int", true));
+        SHORTCUT_CLASSES.add(new CodeClass("Long", "long", "Long", true));
+        SHORTCUT_CLASSES.add(new CodeClass("Float", "float", "Float", true));
+        SHORTCUT_CLASSES.add(new CodeClass("Double", "double", "Double", true));
         SHORTCUT_CLASSES.add(new CodeClass("OptGet"));
-        SHORTCUT_CLASSES.add(new CodeClass("Boolean", "boolean", "Boolean"));
-        SHORTCUT_CLASSES.add(new CodeClass("Boolean", "boolean", "Bool"));
+        SHORTCUT_CLASSES.add(new CodeClass("Boolean", "boolean", "Boolean", true));
+        SHORTCUT_CLASSES.add(new CodeClass("Boolean", "boolean", "Bool", true));
 
         MAP_KEY_CLASSES.add(new CodeClass("String"));
         MAP_KEY_CLASSES.add(new CodeClass("Integer", "int", "Integer"));
@@ -71,9 +71,22 @@ public class GenerateOptGetCode {
             } else {
                 simpleShortcuts += TAB + "public @NotNull " + className + " get" + alias + "(final @NotNull Object key) {" + BR;
             }
-            simpleShortcuts += TAB + TAB + "return get(key, " + className + ".class);" + BR;
+            if (classToCast.specialized) {
+                simpleShortcuts += TAB + TAB + "return " + primitiveCast(primitiveName) + "(key, getNonCast(key, " + className + ".class));" + BR;
+            } else {
+                simpleShortcuts += TAB + TAB + "return get(key, " + className + ".class);" + BR;
+            }
             simpleShortcuts += TAB + "}" + BR;
             simpleShortcuts += BR;
+
+            // Generate "getInt(key, int default)" method, that does not box
+            if (classToCast.specialized) {
+                simpleShortcuts += TAB + "public " + primitiveName + " get" + alias + "(final @NotNull Object key, final " + primitiveName + " defaultValue) {" + BR;
+                simpleShortcuts += TAB + TAB + "Object nonCast = recursiveOpt(key);" + BR;
+                simpleShortcuts += TAB + TAB + "return nonCast == null ? defaultValue : " + primitiveCast(primitiveName) + "(key, nonCast);" + BR;
+                simpleShortcuts += TAB + "}" + BR;
+                simpleShortcuts += BR;
+            }
         }
         code = insertGenerated(code, "SIMPLE-SHORTCUTS", simpleShortcuts);
 
@@ -84,15 +97,15 @@ public class GenerateOptGetCode {
             String className = classToCast.className;
             String alias = classToCast.alias;
 
-            // Generate "optListString(key)" method
+            // Generate "optListString(key)" method, returns a view that casts elements when they are read
             listShortcuts += TAB + "public @Nullable List<" + className + "> optListOf" + alias + "(final @NotNull Object key) {" + BR;
-            listShortcuts += TAB + TAB + "return optList(key, " + className + ".class);" + BR;
+            listShortcuts += TAB + TAB + "return optList(key, " + className + ".class, CollectionMode.LAZY);" + BR;
             listShortcuts += TAB + "}" + BR;
             listShortcuts += BR;
 
             // Generate "getListString(key)" method
             listShortcuts += TAB + "public @NotNull List<" + className + "> getListOf" + alias + "(final @NotNull Object key) {" + BR;
-            listShortcuts += TAB + TAB + "return getList(key, " + className + ".class);" + BR;
+            listShortcuts += TAB + TAB + "return getList(key, " + className + ".class, CollectionMode.LAZY);" + BR;
             listShortcuts += TAB + "}" + BR;
             listShortcuts += BR;
         }
@@ -110,15 +123,15 @@ public class GenerateOptGetCode {
                 String valueClassName = valueToCast.className;
                 String valueAlias = valueToCast.alias;
 
-                // Generate "optMapStringObject(key)" method
+                // Generate "optMapStringObject(key)" method, returns a view that casts entries when they are read
                 mapShortcuts += TAB + "public @Nullable Map<" + keyClassName + ", " + valueClassName + "> optMapOf" + keyAlias + "To" + valueAlias + "(final @NotNull Object key) {" + BR;
-                mapShortcuts += TAB + TAB + "return optMap(key, " + keyClassName + ".class, " + valueClassName + ".class);" + BR;
+                mapShortcuts += TAB + TAB + "return optMap(key, " + keyClassName + ".class, " + valueClassName + ".class, CollectionMode.LAZY);" + BR;
                 mapShortcuts += TAB + "}" + BR;
                 mapShortcuts += BR;
 
                 // Generate "getMapStringObject(key)" method
                 mapShortcuts += TAB + "public @NotNull Map<" + keyClassName + ", " + valueClassName + "> getMapOf" + keyAlias + "To" + valueAlias + "(final @NotNull Object key) {" + BR;
-                mapShortcuts += TAB + TAB + "return getMap(key, " + keyClassName + ".class, " + valueClassName + ".class);" + BR;
+                mapShortcuts += TAB + TAB + "return getMap(key, " + keyClassName + ".class, " + valueClassName + ".class, CollectionMode.LAZY);" + BR;
                 mapShortcuts += TAB + "}" + BR;
                 mapShortcuts += BR;
             }
@@ -135,6 +148,11 @@ public class GenerateOptGetCode {
         log.info("Generated source code for OptGet");
     }
 
+    // "int" -> "toInt", the primitive cast of OptGet
+    private static String primitiveCast(String primitiveName) {
+        return "to" + primitiveName.substring(0, 1).toUpperCase() + primitiveName.substring(1);
+    }
+
     private static String insertGenerated(String source, String alias, String generated) {
         int beginAlias = source.indexOf("// GENERATED-BEGIN:" + alias);
         int endAlias = source.indexOf("// GENERATED-END:" + alias);